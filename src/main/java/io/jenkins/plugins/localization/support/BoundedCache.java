@@ -0,0 +1,429 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.export.Exported;
+import org.kohsuke.stapler.export.ExportedBean;
+
+/**
+ * Cache bounded by the approximate number of bytes its values retain, optionally also per group of entries (e.g.
+ * per locale).
+ * When over budget, entries are evicted in CLOCK order, but each entry survives as many sweeps as it was used since
+ * the previous one (up to {@value #MAX_FREQUENCY}), so translations used once, e.g. for a locale a single user
+ * visited, go before those used all the time.
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+@ExportedBean
+@Restricted(NoExternalUse.class)
+public final class BoundedCache<K, V> {
+
+    /** Upper bound of the use count of an entry, limiting how long formerly popular entries survive. */
+    private static final int MAX_FREQUENCY = 3;
+
+    /** Approximate size of a {@link String} and its backing array, excluding the characters. */
+    private static final int STRING_OVERHEAD = 40;
+
+    /** Approximate size of a hash map entry. */
+    private static final int ENTRY_OVERHEAD = 32;
+
+    private final String name;
+    private final long maxWeight;
+    private final long maxGroupWeight;
+
+    /**
+     * The entries. Replaced rather than modified on invalidation, so loads racing with it cannot write stale results
+     * back.
+     */
+    private volatile Table<K, V> table = new Table<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name the name shown to administrators
+     * @param maxWeight the maximum approximate size of all values in bytes
+     * @param maxGroupWeight the maximum approximate size of the values in a single group in bytes, or 0 for no limit
+     */
+    public BoundedCache(@NonNull String name, long maxWeight, long maxGroupWeight) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.maxGroupWeight = maxGroupWeight;
+    }
+
+    /**
+     * Returns the cached value for the specified key.
+     * @param key the key
+     * @return the cached value, or null if there is none
+     */
+    @CheckForNull
+    public V get(@NonNull K key) {
+        Node<K, V> node = table.map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        node.use();
+        hits.increment();
+        return node.value;
+    }
+
+    /**
+     * Returns the cached value for the specified key, computing and adding it if there is none. A value computed
+     * while the cache is invalidated is returned, but not added.
+     * @param key the key
+     * @param group the group the key belongs to
+     * @param loader computes the value
+     * @param weigher determines the approximate size of the value in bytes
+     * @return the cached or computed value
+     */
+    @NonNull
+    public V computeIfAbsent(
+            @NonNull K key,
+            @NonNull String group,
+            @NonNull Function<? super K, ? extends V> loader,
+            @NonNull ToLongFunction<? super V> weigher) {
+        Table<K, V> current = table;
+        Node<K, V> node = current.map.get(key);
+        if (node != null) {
+            node.use();
+            hits.increment();
+            return node.value;
+        }
+        misses.increment();
+        V value = loader.apply(key);
+        put(current, key, value, group, weigher.applyAsLong(value));
+        return value;
+    }
+
+    /**
+     * Adds or replaces the value for the specified key, evicting other values if this exceeds a limit.
+     * @param key the key
+     * @param value the value
+     * @param group the group the key belongs to
+     * @param weight the approximate size of the value in bytes
+     */
+    public void put(@NonNull K key, @NonNull V value, @NonNull String group, long weight) {
+        put(table, key, value, group, weight);
+    }
+
+    /**
+     * Adds or replaces the value for the specified key like {@link #put(Object, Object, String, long)}, unless the
+     * cache has been invalidated since the specified generation was obtained.
+     * @param generation the result of {@link #getGeneration()} before the value was computed
+     * @param key the key
+     * @param value the value
+     * @param group the group the key belongs to
+     * @param weight the approximate size of the value in bytes
+     */
+    @SuppressWarnings("unchecked")
+    public void put(@NonNull Object generation, @NonNull K key, @NonNull V value, @NonNull String group, long weight) {
+        // a stale table is no longer read, so the value is effectively dropped
+        put((Table<K, V>) generation, key, value, group, weight);
+    }
+
+    /**
+     * Adds the value for the specified key unless there already is one, or the cache has been invalidated since the
+     * specified generation was obtained.
+     * @param generation the result of {@link #getGeneration()} before the value was computed
+     * @param key the key
+     * @param value the value
+     * @param group the group the key belongs to
+     * @param weight the approximate size of the value in bytes
+     */
+    @SuppressWarnings("unchecked")
+    public void putIfAbsent(
+            @NonNull Object generation, @NonNull K key, @NonNull V value, @NonNull String group, long weight) {
+        putIfAbsent((Table<K, V>) generation, key, value, group, weight);
+    }
+
+    private void putIfAbsent(Table<K, V> current, K key, V value, String group, long weight) {
+        Node<K, V> node = new Node<>(key, value, group, weight);
+        if (current.map.putIfAbsent(key, node) == null) {
+            current.add(node);
+            evictIfNeeded(current, group);
+        }
+    }
+
+    /**
+     * Returns a token identifying the current entries, replaced by {@link #clear()} and {@link #removeIf(Predicate)}.
+     * Obtain it before reading the data a value is computed from, and pass it to
+     * {@link #put(Object, Object, Object, String, long)}, so values computed from outdated data are not added.
+     * @return the current generation
+     */
+    @NonNull
+    public Object getGeneration() {
+        return table;
+    }
+
+    /**
+     * Returns a copy of the current entries.
+     * @return the keys and values
+     */
+    @NonNull
+    public Map<K, V> asMap() {
+        Map<K, V> result = new HashMap<>();
+        for (Map.Entry<K, Node<K, V>> entry : table.map.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().value);
+        }
+        return result;
+    }
+
+    private void put(Table<K, V> current, K key, V value, String group, long weight) {
+        Node<K, V> node = new Node<>(key, value, group, weight);
+        Node<K, V> previous = current.map.put(key, node);
+        if (previous != null) {
+            current.discard(previous);
+            current.replaced.incrementAndGet();
+        }
+        current.add(node);
+        evictIfNeeded(current, group);
+        if (current.replaced.get() > current.map.size() + 16) {
+            compact(current);
+        }
+    }
+
+    /**
+     * Removes replaced entries from the clock, which would otherwise accumulate as long as no sweep passes them.
+     */
+    private void compact(Table<K, V> current) {
+        synchronized (current) {
+            current.replaced.set(0);
+            current.clock.removeIf(node -> node.removed);
+        }
+    }
+
+    private void evictIfNeeded(Table<K, V> current, String group) {
+        if (current.weight.get() > maxWeight
+                || maxGroupWeight > 0 && current.groupWeight(group).get() > maxGroupWeight) {
+            evict(current, group);
+        }
+    }
+
+    /**
+     * Sweeps the clock until the table is within its limits again, passing over entries of other groups if only the
+     * specified group is over its limit.
+     */
+    private void evict(Table<K, V> current, String group) {
+        synchronized (current) {
+            AtomicLong groupWeight = current.groupWeight(group);
+            // every entry needs to be passed at most MAX_FREQUENCY + 1 times; removed entries are not counted
+            long remaining = (MAX_FREQUENCY + 2L) * (current.map.size() + 1);
+            while (remaining > 0) {
+                boolean overall = current.weight.get() > maxWeight;
+                if (!overall && (maxGroupWeight <= 0 || groupWeight.get() <= maxGroupWeight)) {
+                    return;
+                }
+                Node<K, V> node = current.clock.poll();
+                if (node == null) {
+                    return;
+                }
+                if (node.removed) {
+                    continue;
+                }
+                remaining--;
+                if (!overall && !node.group.equals(group)) {
+                    current.clock.offer(node);
+                    continue;
+                }
+                if (node.frequency > 0) {
+                    node.frequency--;
+                    current.clock.offer(node);
+                    continue;
+                }
+                if (current.map.remove(node.key, node)) {
+                    current.discard(node);
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        table = new Table<>();
+    }
+
+    /**
+     * Removes the entries whose keys match the specified predicate.
+     * @param predicate selects the keys to remove
+     */
+    public void removeIf(@NonNull Predicate<? super K> predicate) {
+        Table<K, V> previous = table;
+        Table<K, V> updated = new Table<>();
+        for (Node<K, V> node : previous.clock) {
+            if (!node.removed && !predicate.test(node.key) && previous.map.get(node.key) == node) {
+                // copied, as racing writes to the previous table may still discard the original
+                Node<K, V> copy = new Node<>(node.key, node.value, node.group, node.weight);
+                copy.frequency = node.frequency;
+                updated.map.put(node.key, copy);
+                updated.add(copy);
+            }
+        }
+        table = updated;
+    }
+
+    /**
+     * Approximates the number of bytes retained by a translation table, assuming compact strings that are not
+     * shared with other tables.
+     * @param values the translations
+     * @return the approximate size in bytes
+     */
+    public static long weigh(@NonNull Map<String, String> values) {
+        long weight = ENTRY_OVERHEAD;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            weight += ENTRY_OVERHEAD
+                    + 2 * STRING_OVERHEAD
+                    + entry.getKey().length()
+                    + entry.getValue().length();
+        }
+        return weight;
+    }
+
+    @Exported
+    public String getName() {
+        return name;
+    }
+
+    @Exported
+    public int getEntries() {
+        return table.map.size();
+    }
+
+    /**
+     * Approximate number of bytes retained by the cached values.
+     */
+    @Exported
+    public long getWeight() {
+        return table.weight.get();
+    }
+
+    @Exported
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Maximum number of bytes per locale, or 0 if unlimited.
+     */
+    @Exported
+    public long getMaxGroupWeight() {
+        return maxGroupWeight;
+    }
+
+    @Exported
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Exported
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Percentage of lookups answered from the cache.
+     */
+    @Exported
+    public long getHitRate() {
+        long cached = getHits();
+        long total = cached + getMisses();
+        return total == 0 ? 0 : cached * 100 / total;
+    }
+
+    @Exported
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private static final class Table<K, V> {
+        private final Map<K, Node<K, V>> map = new ConcurrentHashMap<>();
+        private final Queue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+        private final AtomicLong weight = new AtomicLong();
+
+        /** Approximate number of replaced entries still in the clock. */
+        private final AtomicInteger replaced = new AtomicInteger();
+
+        private final Map<String, AtomicLong> groupWeights = new ConcurrentHashMap<>();
+
+        private AtomicLong groupWeight(String group) {
+            return groupWeights.computeIfAbsent(group, k -> new AtomicLong());
+        }
+
+        private void add(Node<K, V> node) {
+            weight.addAndGet(node.weight);
+            groupWeight(node.group).addAndGet(node.weight);
+            clock.offer(node);
+        }
+
+        private void discard(Node<K, V> node) {
+            node.removed = true;
+            weight.addAndGet(-node.weight);
+            groupWeight(node.group).addAndGet(-node.weight);
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final String group;
+        private final long weight;
+
+        /** Uses since the clock last passed this entry. Updated without synchronization, as it is only a hint. */
+        private int frequency;
+
+        private volatile boolean removed;
+
+        private Node(K key, V value, String group, long weight) {
+            this.key = key;
+            this.value = value;
+            this.group = group;
+            this.weight = weight;
+        }
+
+        private void use() {
+            if (frequency < MAX_FREQUENCY) {
+                frequency++;
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Describes a change to the known {@link LocalizationContributor}s: which were added or removed, and which resources
+ * may now be found elsewhere as a result. Caches use it to discard only affected entries.
+ */
+@Restricted(NoExternalUse.class)
+public final class ContributorChange {
+
+    static final ContributorChange NONE = new ContributorChange(Set.of(), Set.of(), Set.of());
+
+    private final Set<LocalizationContributor> added;
+    private final Set<LocalizationContributor> removed;
+
+    /**
+     * Null if not known, because an added or removed contributor does not list its resources. Includes the names of
+     * plugin resources.
+     */
+    private final Set<String> affectedResources;
+
+    private ContributorChange(
+            Set<LocalizationContributor> added,
+            Set<LocalizationContributor> removed,
+            @CheckForNull Set<String> affectedResources) {
+        this.added = added;
+        this.removed = removed;
+        this.affectedResources = affectedResources;
+    }
+
+    /**
+     * Determines the change between two lists of contributors.
+     */
+    static ContributorChange between(List<LocalizationContributor> before, List<LocalizationContributor> after) {
+        Set<LocalizationContributor> added = identitySet(after);
+        added.removeAll(identitySet(before));
+        Set<LocalizationContributor> removed = identitySet(before);
+        removed.removeAll(identitySet(after));
+        if (added.isEmpty() && removed.isEmpty()) {
+            // only the order changed, which may change the owner of any resource
+            return before.equals(after) ? NONE : new ContributorChange(added, removed, null);
+        }
+        Set<String> affected = new HashSet<>();
+        for (LocalizationContributor contributor : added) {
+            if (!addResourceNames(contributor, affected)) {
+                return new ContributorChange(added, removed, null);
+            }
+        }
+        for (LocalizationContributor contributor : removed) {
+            if (!addResourceNames(contributor, affected)) {
+                return new ContributorChange(added, removed, null);
+            }
+        }
+        return new ContributorChange(added, removed, Collections.unmodifiableSet(affected));
+    }
+
+    private static boolean addResourceNames(LocalizationContributor contributor, Set<String> affected) {
+        Set<String> names = contributor.getResourceNames();
+        Map<String, Set<String>> pluginNames = contributor.getPluginResourceNames();
+        if (names == null || pluginNames == null) {
+            return false;
+        }
+        affected.addAll(names);
+        // plugin resources are cached by URL, so only their names matter here, not the plugin they belong to
+        for (Set<String> pluginResources : pluginNames.values()) {
+            affected.addAll(pluginResources);
+        }
+        return true;
+    }
+
+    private static Set<LocalizationContributor> identitySet(List<LocalizationContributor> contributors) {
+        Set<LocalizationContributor> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        result.addAll(contributors);
+        return result;
+    }
+
+    /**
+     * Whether contributors were added or removed, rather than just reordered.
+     * @return true if contributors were added or removed
+     */
+    public boolean isContributorsChanged() {
+        return !added.isEmpty() || !removed.isEmpty();
+    }
+
+    /**
+     * Whether the lookup of any resource may be affected, because the affected resources are not known.
+     * @return true if all cached lookups need to be discarded
+     */
+    public boolean isAffectingAll() {
+        return affectedResources == null;
+    }
+
+    /**
+     * Whether looking up the specified resource may return a different result after this change.
+     * @param resource the resource name as absolute path (cf. ClassLoader#getResource)
+     * @return true if cached lookups of this resource need to be discarded
+     */
+    public boolean affects(@NonNull String resource) {
+        return affectedResources == null || affectedResources.contains(resource);
+    }
+
+    /**
+     * Whether the specified URL may point to a resource whose lookup is affected, i.e. whether any of its path
+     * suffixes is affected.
+     * @param url the URL of a resource
+     * @return true if cached data for this URL may no longer be used
+     */
+    public boolean affectsUrl(@NonNull String url) {
+        if (affectedResources == null) {
+            return true;
+        }
+        for (int i = url.indexOf('/'); i >= 0; i = url.indexOf('/', i + 1)) {
+            if (affectedResources.contains(url.substring(i + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the resources whose lookup may be affected, or null if any resource may be.
+     * @return the affected resource names, or null if not known
+     */
+    @CheckForNull
+    public Set<String> getAffectedResources() {
+        return affectedResources;
+    }
+
+    @Override
+    public String toString() {
+        return "ContributorChange[added=" + added + ", removed=" + removed + ", affected="
+                + (affectedResources == null ? "all" : affectedResources.size() + " resources") + "]";
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.ExtensionList;
+import hudson.PluginWrapper;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Routes resource lookups to the {@link LocalizationContributor}s that list a resource in
+ * {@link LocalizationContributor#getResourceNames()} or {@link LocalizationContributor#getPluginResourceNames()}.
+ * They are asked in extension order together with the contributors that do not list their resources, until one of
+ * them has the resource.
+ */
+final class ContributorIndex {
+
+    /** Immutable snapshot of the contributors, in extension order. */
+    private final LocalizationContributor[] contributors;
+
+    private final LookupStatistics.ContributorStatistics[] statistics;
+
+    private static final int[] NONE = new int[0];
+
+    /** Resource name to the positions of the contributors listing it, in ascending order. */
+    private final Map<String, int[]> resources = new HashMap<>();
+
+    /** Plugin short name to resource name to the positions of the contributors listing it, in ascending order. */
+    private final Map<String, Map<String, int[]>> pluginResources = new HashMap<>();
+
+    /** Positions of contributors that do not list their resources, in ascending order. */
+    private final int[] unlistedResourceContributors;
+
+    private final int[] unlistedPluginResourceContributors;
+
+    ContributorIndex() {
+        contributors = ExtensionList.lookup(LocalizationContributor.class).toArray(new LocalizationContributor[0]);
+        statistics = new LookupStatistics.ContributorStatistics[contributors.length];
+        List<Integer> unlistedResources = new ArrayList<>();
+        List<Integer> unlistedPluginResources = new ArrayList<>();
+        for (int i = 0; i < contributors.length; i++) {
+            LocalizationContributor contributor = contributors[i];
+            statistics[i] = LookupStatistics.get().forContributor(contributor);
+
+            Set<String> names = contributor.getResourceNames();
+            if (names == null) {
+                unlistedResources.add(i);
+            } else {
+                for (String name : names) {
+                    append(resources, name, i);
+                }
+            }
+
+            Map<String, Set<String>> pluginNames = contributor.getPluginResourceNames();
+            if (pluginNames == null) {
+                unlistedPluginResources.add(i);
+            } else {
+                for (Map.Entry<String, Set<String>> entry : pluginNames.entrySet()) {
+                    Map<String, int[]> forPlugin =
+                            pluginResources.computeIfAbsent(entry.getKey(), k -> new HashMap<>());
+                    for (String name : entry.getValue()) {
+                        append(forPlugin, name, i);
+                    }
+                }
+            }
+        }
+        unlistedResourceContributors = toArray(unlistedResources);
+        unlistedPluginResourceContributors = toArray(unlistedPluginResources);
+    }
+
+    @NonNull
+    List<LocalizationContributor> getContributors() {
+        return Collections.unmodifiableList(Arrays.asList(contributors));
+    }
+
+    @CheckForNull
+    URL getResource(@NonNull String resource) {
+        for (int i : candidates(resources.getOrDefault(resource, NONE), unlistedResourceContributors)) {
+            URL url = getResource(i, resource);
+            if (url != null) {
+                return url;
+            }
+        }
+        return null;
+    }
+
+    @CheckForNull
+    URL getPluginResource(@NonNull String resource, @NonNull PluginWrapper plugin) {
+        Map<String, int[]> forPlugin = pluginResources.getOrDefault(plugin.getShortName(), Map.of());
+        for (int i : candidates(forPlugin.getOrDefault(resource, NONE), unlistedPluginResourceContributors)) {
+            URL url = getPluginResource(i, resource, plugin);
+            if (url != null) {
+                return url;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Merges the positions of the contributors listing a resource with those of the contributors that do not list
+     * their resources, so they are asked in extension order.
+     */
+    private static int[] candidates(int[] listing, int[] unlisted) {
+        if (listing.length == 0) {
+            return unlisted;
+        }
+        int[] result = new int[listing.length + unlisted.length];
+        int l = 0;
+        int u = 0;
+        for (int r = 0; r < result.length; r++) {
+            if (u == unlisted.length || l < listing.length && listing[l] < unlisted[u]) {
+                result[r] = listing[l++];
+            } else {
+                result[r] = unlisted[u++];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Looks up several resources at once, asking each contributor only once for all of them it may have. Each
+     * resource is found in the same contributor as by {@link #getResource(String)}.
+     */
+    @NonNull
+    Map<String, URL> getResources(@NonNull Collection<String> names) {
+        return resolve(
+                names, resources, unlistedResourceContributors, (i, batch) -> contributors[i].getResources(batch));
+    }
+
+    @NonNull
+    Map<String, URL> getPluginResources(@NonNull Collection<String> names, @NonNull PluginWrapper plugin) {
+        return resolve(
+                names,
+                pluginResources.getOrDefault(plugin.getShortName(), Map.of()),
+                unlistedPluginResourceContributors,
+                (i, batch) -> contributors[i].getPluginResources(batch, plugin));
+    }
+
+    /**
+     * Asks the contributors in order for the resources not found yet, skipping those they do not list, like the
+     * individual lookups do.
+     */
+    private Map<String, URL> resolve(
+            Collection<String> names,
+            Map<String, int[]> owners,
+            int[] unlisted,
+            BiFunction<Integer, List<String>, Map<String, URL>> lookup) {
+        Map<String, URL> found = new HashMap<>();
+        List<String> remaining = new ArrayList<>(names);
+        for (int i = 0; i < contributors.length && !remaining.isEmpty(); i++) {
+            List<String> batch;
+            if (Arrays.binarySearch(unlisted, i) >= 0) {
+                batch = List.copyOf(remaining);
+            } else {
+                batch = new ArrayList<>();
+                for (String name : remaining) {
+                    if (Arrays.binarySearch(owners.getOrDefault(name, NONE), i) >= 0) {
+                        batch.add(name);
+                    }
+                }
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                batch = Collections.unmodifiableList(batch);
+            }
+            long start = System.nanoTime();
+            Map<String, URL> urls = lookup.apply(i, batch);
+            statistics[i].record(System.nanoTime() - start, !urls.isEmpty());
+            for (String name : batch) {
+                URL url = urls.get(name);
+                if (url != null) {
+                    found.put(name, url);
+                }
+            }
+            remaining.removeIf(found::containsKey);
+        }
+        return found;
+    }
+
+    private URL getResource(int contributor, String resource) {
+        long start = System.nanoTime();
+        URL url = contributors[contributor].getResource(resource);
+        statistics[contributor].record(System.nanoTime() - start, url != null);
+        return url;
+    }
+
+    private URL getPluginResource(int contributor, String resource, PluginWrapper plugin) {
+        long start = System.nanoTime();
+        URL url = contributors[contributor].getPluginResource(resource, plugin);
+        statistics[contributor].record(System.nanoTime() - start, url != null);
+        return url;
+    }
+
+    private static void append(Map<String, int[]> positions, String name, int position) {
+        // most resources are listed by a single contributor
+        positions.merge(name, new int[] {position}, (previous, added) -> {
+            int[] result = Arrays.copyOf(previous, previous.length + 1);
+            result[previous.length] = position;
+            return result;
+        });
+    }
+
+    private static int[] toArray(Collection<Integer> positions) {
+        return positions.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
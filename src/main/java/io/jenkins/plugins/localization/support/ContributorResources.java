@@ -0,0 +1,280 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.ExtensionList;
+import hudson.ExtensionListListener;
+import hudson.PluginWrapper;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import jenkins.util.SystemProperties;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Caches which {@link LocalizationContributor} provides a given resource, including the knowledge that none does.
+ */
+@Restricted(NoExternalUse.class)
+public final class ContributorResources {
+
+    /**
+     * Immutable snapshot of the contributors, published by {@link #refresh()}. Null until first use.
+     */
+    private static volatile ContributorIndex index;
+
+    /**
+     * Resource name to the URL provided by the first contributor, or an empty value if no contributor has it.
+     * Bounded, as the names include locales requested by clients.
+     */
+    private static final BoundedCache<String, Optional<URL>> RESOURCES = new BoundedCache<>(
+            "Resource lookups",
+            SystemProperties.getLong(ContributorResources.class.getName() + ".maxBytes", 4L * 1024 * 1024),
+            0);
+
+    /** Approximate size of a cached negative lookup, excluding the characters of the name. */
+    private static final int MISS_WEIGHT = 96;
+
+    /** Approximate size of a cached URL, excluding the characters of the name. */
+    private static final int HIT_WEIGHT = 320;
+
+    /** Callbacks notified of every change to the contributors, in registration order. */
+    private static final List<Consumer<ContributorChange>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /** Whether the listener on the {@link LocalizationContributor} extension list has been registered. */
+    private static boolean listening;
+
+    private ContributorResources() {}
+
+    /**
+     * Returns the resource from the first {@link LocalizationContributor} that has it, or null if none does.
+     * @param resourceName the resource to look for as absolute path (cf. ClassLoader#getResource)
+     * @return the URL for the specified resource, or null if not found
+     */
+    @CheckForNull
+    public static URL getResource(@NonNull String resourceName) {
+        // obtained before reading the index, so results from an outdated index are not cached
+        Object generation = RESOURCES.getGeneration();
+        Optional<URL> cached = RESOURCES.get(resourceName);
+        LookupStatistics.get().recordLookup(cached != null);
+        if (cached == null) {
+            cached = Optional.ofNullable(getIndex().getResource(resourceName));
+            RESOURCES.put(generation, resourceName, cached, "", weigh(resourceName, cached));
+        }
+        return cached.orElse(null);
+    }
+
+    /**
+     * Returns the resources from the first {@link LocalizationContributor} that has each of them, asking each
+     * contributor at most once for all resources not cached yet.
+     * @param resourceNames the resources to look for as absolute paths (cf. ClassLoader#getResource)
+     * @return the URLs of the resources found, by resource name
+     */
+    @NonNull
+    public static Map<String, URL> getResources(@NonNull Collection<String> resourceNames) {
+        Object generation = RESOURCES.getGeneration();
+        Map<String, URL> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String name : resourceNames) {
+            Optional<URL> cached = RESOURCES.get(name);
+            LookupStatistics.get().recordLookup(cached != null);
+            if (cached == null) {
+                missing.add(name);
+            } else {
+                cached.ifPresent(url -> result.put(name, url));
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<String, URL> found = getIndex().getResources(missing);
+            for (String name : missing) {
+                URL url = found.get(name);
+                Optional<URL> lookup = Optional.ofNullable(url);
+                RESOURCES.put(generation, name, lookup, "", weigh(name, lookup));
+                if (url != null) {
+                    result.put(name, url);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the plugin resource from the first {@link LocalizationContributor} that has it, or null if none does.
+     * @param resource the resource to look up
+     * @param plugin the plugin
+     * @return resource for a plugin, or null if not found
+     */
+    @CheckForNull
+    public static URL getPluginResource(@NonNull String resource, @NonNull PluginWrapper plugin) {
+        return getIndex().getPluginResource(resource, plugin);
+    }
+
+    /**
+     * Returns the plugin resources from the first {@link LocalizationContributor} that has each of them, asking each
+     * contributor at most once.
+     * @param resources the resources to look up
+     * @param plugin the plugin
+     * @return the URLs of the resources found, by resource name
+     */
+    @NonNull
+    public static Map<String, URL> getPluginResources(
+            @NonNull Collection<String> resources, @NonNull PluginWrapper plugin) {
+        return getIndex().getPluginResources(resources, plugin);
+    }
+
+    /**
+     * Returns the snapshot of known {@link LocalizationContributor}s that lookups currently use.
+     * @return the contributors, in extension order
+     */
+    @NonNull
+    public static List<LocalizationContributor> getContributors() {
+        return getIndex().getContributors();
+    }
+
+    /**
+     * Returns a copy of the cached lookups, for {@link ResolutionSnapshot}.
+     */
+    @NonNull
+    static Map<String, Optional<URL>> getCachedResources() {
+        return RESOURCES.asMap();
+    }
+
+    /**
+     * Returns a token to pass to {@link #restore(Object, Map)}, obtained before reading the lookups to restore.
+     */
+    @NonNull
+    static Object getGeneration() {
+        return RESOURCES.getGeneration();
+    }
+
+    /**
+     * Adds lookups restored by {@link ResolutionSnapshot}, unless they have been made since, or the contributors have
+     * changed since the specified generation was obtained.
+     */
+    static void restore(@NonNull Object generation, @NonNull Map<String, Optional<URL>> resources) {
+        for (Map.Entry<String, Optional<URL>> entry : resources.entrySet()) {
+            RESOURCES.putIfAbsent(
+                    generation, entry.getKey(), entry.getValue(), "", weigh(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * Registers a callback to invalidate other caches when the known {@link LocalizationContributor}s change.
+     * A single listener on the extension list determines each change once and passes it to every callback, after
+     * the cached lookups affected by it have been discarded.
+     * Registering also picks up changes made since the previous refresh, which all callbacks are notified of.
+     * @param listener the callback
+     */
+    public static void addListener(@NonNull Consumer<ContributorChange> listener) {
+        synchronized (ContributorResources.class) {
+            if (!listening) {
+                ExtensionList.lookup(LocalizationContributor.class).addListener(new Listener());
+                listening = true;
+            }
+            LISTENERS.add(listener);
+        }
+        notifyListeners(refresh());
+    }
+
+    /**
+     * Picks up changes to the known {@link LocalizationContributor}s, discarding only the cached lookups affected by
+     * them.
+     * @return the change since the previous call
+     */
+    @NonNull
+    private static synchronized ContributorChange refresh() {
+        ContributorIndex previous = index;
+        ContributorIndex updated = new ContributorIndex();
+        index = updated;
+        if (previous == null) {
+            return ContributorChange.NONE;
+        }
+        ContributorChange change = ContributorChange.between(previous.getContributors(), updated.getContributors());
+        if (change == ContributorChange.NONE) {
+            return change;
+        }
+        // after publishing the index, so lookups that start from now on cannot see the previous one
+        if (change.isAffectingAll()) {
+            RESOURCES.clear();
+        } else {
+            RESOURCES.removeIf(change::affects);
+        }
+        LOGGER.fine(() -> "Contributors changed: " + change);
+        return change;
+    }
+
+    private static void notifyListeners(ContributorChange change) {
+        if (change != ContributorChange.NONE) {
+            for (Consumer<ContributorChange> listener : LISTENERS) {
+                listener.accept(change);
+            }
+        }
+    }
+
+    /**
+     * Returns the cache of lookups, for its statistics.
+     * @return the cache
+     */
+    @NonNull
+    public static BoundedCache<?, ?> getCache() {
+        return RESOURCES;
+    }
+
+    private static long weigh(String resourceName, Optional<URL> lookup) {
+        return resourceName.length() + (lookup.isPresent() ? HIT_WEIGHT : MISS_WEIGHT);
+    }
+
+    private static ContributorIndex getIndex() {
+        ContributorIndex result = index;
+        if (result == null) {
+            // lookups before the initializers publish the first snapshot
+            synchronized (ContributorResources.class) {
+                result = index;
+                if (result == null) {
+                    result = new ContributorIndex();
+                    index = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static final class Listener extends ExtensionListListener {
+        @Override
+        public void onChange() {
+            notifyListeners(refresh());
+        }
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(ContributorResources.class.getName());
+}
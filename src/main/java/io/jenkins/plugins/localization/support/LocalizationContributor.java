@@ -25,10 +25,13 @@ package io.jenkins.plugins.localization.support;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import hudson.ExtensionList;
 import hudson.ExtensionPoint;
 import hudson.PluginWrapper;
 import java.net.URL;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import jenkins.model.Jenkins;
 
 public abstract class LocalizationContributor implements ExtensionPoint {
@@ -41,6 +44,46 @@ public abstract class LocalizationContributor implements ExtensionPoint {
     @CheckForNull
     public abstract URL getResource(@NonNull String resource);
 
+    /**
+     * Returns those of the specified resources that this implementation has, e.g. all locale variants of a bundle.
+     * The default implementation calls {@link #getResource(String)} for each of them; implementations backed by an
+     * archive or database may override this to look them up at once.
+     * @param resources the resources to look for as absolute paths (cf. ClassLoader#getResource)
+     * @return the URLs of the resources found, by resource name
+     */
+    @NonNull
+    public Map<String, URL> getResources(@NonNull Collection<String> resources) {
+        Map<String, URL> urls = new HashMap<>();
+        for (String resource : resources) {
+            URL url = getResource(resource);
+            if (url != null) {
+                urls.put(resource, url);
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * Returns the names of all resources that {@link #getResource(String)} can find, or null if this implementation
+     * cannot list them. Resources not listed here are not looked up in implementations that return non-null.
+     * @return the resource names as absolute paths (cf. ClassLoader#getResource), or null if unknown
+     */
+    @CheckForNull
+    public Set<String> getResourceNames() {
+        return null;
+    }
+
+    /**
+     * Returns the names of all resources that {@link #getPluginResource(String, PluginWrapper)} can find, or null if
+     * this implementation cannot list them. Resources not listed here are not looked up in implementations that
+     * return non-null.
+     * @return the resource names by plugin short name, or null if unknown
+     */
+    @CheckForNull
+    public Map<String, Set<String>> getPluginResourceNames() {
+        return null;
+    }
+
     /**
      * Returns the name of this implementation, defaulting to the class name.
      * @return the name of this implementation
@@ -81,14 +124,13 @@ public abstract class LocalizationContributor implements ExtensionPoint {
             resourceName = clazz.getPackage().getName().replace('.', '/') + "/" + resource;
         }
 
-        for (LocalizationContributor contributor : ExtensionList.lookup(LocalizationContributor.class)) {
-            URL url = contributor.getResource(resourceName);
-            if (url != null) {
-                return url;
-            }
+        URL url = ContributorResources.getResource(resourceName);
+        if (url != null) {
+            return url;
         }
 
         // fallback to default: Looking in the class context
+        LookupStatistics.get().recordFallback();
         return clazz.getResource(resource);
     }
 
@@ -101,4 +143,23 @@ public abstract class LocalizationContributor implements ExtensionPoint {
      */
     @CheckForNull
     public abstract URL getPluginResource(@NonNull String resource, @NonNull PluginWrapper plugin);
+
+    /**
+     * Returns those of the specified plugin resources that this implementation has. The default implementation calls
+     * {@link #getPluginResource(String, PluginWrapper)} for each of them.
+     * @param resources the resources to look up
+     * @param plugin the plugin
+     * @return the URLs of the resources found, by resource name
+     */
+    @NonNull
+    public Map<String, URL> getPluginResources(@NonNull Collection<String> resources, @NonNull PluginWrapper plugin) {
+        Map<String, URL> urls = new HashMap<>();
+        for (String resource : resources) {
+            URL url = getPluginResource(resource, plugin);
+            if (url != null) {
+                urls.put(resource, url);
+            }
+        }
+        return urls;
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.Api;
+import hudson.model.ManagementLink;
+import io.jenkins.plugins.localization.support.stapler.PropertiesCache;
+import io.jenkins.plugins.localization.support.stapler.ResourceBundleFactoryImpl;
+import io.jenkins.plugins.localization.support.stapler.ServedResources;
+import java.util.List;
+import jenkins.model.Jenkins;
+import org.jenkinsci.Symbol;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.export.Exported;
+import org.kohsuke.stapler.export.ExportedBean;
+
+/**
+ * Shows administrators what this plugin does behind the scenes.
+ */
+@Extension
+@Symbol("localization")
+@ExportedBean
+@Restricted(NoExternalUse.class)
+public class LocalizationManagementLink extends ManagementLink {
+
+    @Override
+    public String getIconFileName() {
+        return "symbol-analytics";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return Messages.LocalizationManagementLink_DisplayName();
+    }
+
+    @Override
+    public String getDescription() {
+        return Messages.LocalizationManagementLink_Description();
+    }
+
+    @Override
+    public String getUrlName() {
+        return "localization";
+    }
+
+    @NonNull
+    @Override
+    public Category getCategory() {
+        return Category.STATUS;
+    }
+
+    // Used in Stapler
+    @CheckForNull
+    @Exported
+    public WarmUp getWarmUp() {
+        return WarmUp.getLast();
+    }
+
+    // Used in Stapler
+    @NonNull
+    @Exported
+    public LookupStatistics getStatistics() {
+        return LookupStatistics.get();
+    }
+
+    // Used in Stapler
+    @NonNull
+    @Exported
+    public StringPool getStringPool() {
+        return StringPool.get();
+    }
+
+    // Used in Stapler
+    @NonNull
+    @Exported
+    public List<BoundedCache<?, ?>> getCaches() {
+        return List.of(
+                ContributorResources.getCache(),
+                PropertiesCache.getCache(),
+                ResourceBundleFactoryImpl.getCache(),
+                ServedResources.getCache());
+    }
+
+    public Api getApi() {
+        Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+        return new Api(this);
+    }
+}
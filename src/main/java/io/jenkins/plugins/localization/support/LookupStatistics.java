@@ -0,0 +1,208 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.export.Exported;
+import org.kohsuke.stapler.export.ExportedBean;
+
+/**
+ * Counts resource lookups and measures the time spent in each {@link LocalizationContributor}.
+ * Uses {@link LongAdder}s so concurrent lookups do not contend on the counters.
+ */
+@ExportedBean
+@Restricted(NoExternalUse.class)
+public final class LookupStatistics {
+    private static final LookupStatistics INSTANCE = new LookupStatistics();
+
+    private final Map<String, ContributorStatistics> contributors = new ConcurrentHashMap<>();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    private LookupStatistics() {}
+
+    @NonNull
+    public static LookupStatistics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the statistics for the specified contributor, which are kept across changes to the contributor list.
+     * @param contributor the contributor
+     * @return the statistics for the contributor
+     */
+    @NonNull
+    public ContributorStatistics forContributor(@NonNull LocalizationContributor contributor) {
+        return contributors.computeIfAbsent(contributor.getName(), ContributorStatistics::new);
+    }
+
+    void recordLookup(boolean cached) {
+        lookups.increment();
+        if (cached) {
+            cacheHits.increment();
+        }
+    }
+
+    void recordFallback() {
+        fallbacks.increment();
+    }
+
+    /**
+     * Number of resources looked up in contributors, not including plugin resources.
+     */
+    @Exported
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * Number of lookups answered by {@link ContributorResources} without asking any contributor.
+     */
+    @Exported
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Number of times {@link LocalizationContributor#findResource(String, Class)} fell back to
+     * {@link Class#getResource(String)}.
+     */
+    @Exported
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    @Exported
+    public List<ContributorStatistics> getContributors() {
+        List<ContributorStatistics> result = new ArrayList<>(contributors.values());
+        result.sort(Comparator.comparing(ContributorStatistics::getName));
+        return result;
+    }
+
+    @ExportedBean(defaultVisibility = 2)
+    public static final class ContributorStatistics {
+        /** Latency buckets, where bucket {@code i} counts calls taking less than {@code 2^i} nanoseconds. */
+        private static final int BUCKETS = 36;
+
+        private final String name;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder[] latency = new LongAdder[BUCKETS];
+
+        private ContributorStatistics(String name) {
+            this.name = name;
+            for (int i = 0; i < BUCKETS; i++) {
+                latency[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Records a call to {@link LocalizationContributor#getResource(String)} or
+         * {@link LocalizationContributor#getPluginResource(String, hudson.PluginWrapper)}.
+         * @param duration the duration of the call in nanoseconds
+         * @param hit whether the contributor had the resource
+         */
+        public void record(long duration, boolean hit) {
+            calls.increment();
+            if (hit) {
+                hits.increment();
+            }
+            nanos.add(duration);
+            latency[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, duration)))].increment();
+        }
+
+        @Exported
+        public String getName() {
+            return name;
+        }
+
+        @Exported
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        @Exported
+        public long getHits() {
+            return hits.sum();
+        }
+
+        @Exported
+        public long getMisses() {
+            return getCalls() - getHits();
+        }
+
+        @Exported
+        public long getTotalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(nanos.sum());
+        }
+
+        @Exported
+        public long getMeanMicros() {
+            long calls = getCalls();
+            return calls == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(nanos.sum() / calls);
+        }
+
+        @Exported
+        public long getMedianMicros() {
+            return getPercentileMicros(0.5);
+        }
+
+        @Exported
+        public long getP99Micros() {
+            return getPercentileMicros(0.99);
+        }
+
+        /**
+         * Returns an upper bound for the specified percentile of call latency, accurate to a factor of two.
+         */
+        private long getPercentileMicros(double percentile) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = latency[i].sum();
+                total += counts[i];
+            }
+            long threshold = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= threshold && seen > 0) {
+                    return TimeUnit.NANOSECONDS.toMicros(1L << i);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.PluginWrapper;
+import hudson.Util;
+import hudson.init.Terminator;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Persists the lookups cached by {@link ContributorResources}, including the knowledge that no contributor has a
+ * resource, to {@code $JENKINS_HOME/localization-support/resolution.snapshot} on shutdown, so they do not need to be
+ * repeated after a restart.
+ * The snapshot is only used if Jenkins and the contributors are the same as when it was written, as determined by a
+ * fingerprint of their versions, locations, and listed resources.
+ * If any contributor does not list its resources, it may gain or lose resources without a change to the fingerprint,
+ * so no snapshot is written or read.
+ *
+ * <p>All numbers are big-endian {@code int}s, and strings are their length followed by their UTF-8 bytes. The snapshot
+ * consists of the magic number, format version, fingerprint, and number of entries, followed by the entries: resource
+ * name, and either a URL or an empty string if no contributor has the resource.
+ * Only {@code file:} and {@code jar:} URLs are persisted, as other kinds may need a handler that is not available
+ * when the snapshot is read.
+ */
+@Restricted(NoExternalUse.class)
+public final class ResolutionSnapshot {
+    private static final Logger LOGGER = Logger.getLogger(ResolutionSnapshot.class.getName());
+
+    private static final int MAGIC = 0x4C535253; // "LSRS"
+    private static final int VERSION = 1;
+
+    /**
+     * Set to true to neither read nor write snapshots.
+     */
+    private static final boolean DISABLED =
+            SystemProperties.getBoolean(ResolutionSnapshot.class.getName() + ".disabled");
+
+    private ResolutionSnapshot() {}
+
+    /**
+     * Restores the lookups from the snapshot, if it matches the current contributors.
+     */
+    public static void load() {
+        if (DISABLED) {
+            return;
+        }
+        Path file = getFile();
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        // obtained before the contributors are fingerprinted, so lookups are not restored after they change
+        Object generation = ContributorResources.getGeneration();
+        try {
+            // read rather than mapped, so the file is not locked when it is replaced on shutdown
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                LOGGER.fine(() -> "Ignoring unsupported resolution snapshot " + file);
+                return;
+            }
+            List<LocalizationContributor> contributors = ContributorResources.getContributors();
+            if (!isListed(contributors) || !getString(buffer).equals(fingerprint(contributors))) {
+                LOGGER.fine(() -> "Ignoring outdated resolution snapshot " + file);
+                return;
+            }
+            int count = buffer.getInt();
+            Map<String, Optional<URL>> resources = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = getString(buffer);
+                String url = getString(buffer);
+                resources.put(name, url.isEmpty() ? Optional.empty() : Optional.of(new URL(url)));
+            }
+            ContributorResources.restore(generation, resources);
+            LOGGER.fine(() -> "Restored " + resources.size() + " lookups from " + file);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, "Failed to read resolution snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Writes the current lookups to the snapshot.
+     */
+    @Terminator
+    public static void save() {
+        if (DISABLED) {
+            return;
+        }
+        Path file = getFile();
+        List<LocalizationContributor> contributors = ContributorResources.getContributors();
+        if (!isListed(contributors)) {
+            LOGGER.fine("Not saving a resolution snapshot, as not all contributors list their resources");
+            return;
+        }
+        Map<String, String> persisted = new HashMap<>();
+        for (Map.Entry<String, Optional<URL>> entry : ContributorResources.getCachedResources().entrySet()) {
+            String url = toPersistedForm(entry.getValue());
+            if (url != null) {
+                persisted.put(entry.getKey(), url);
+            }
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "resolution", ".tmp");
+            try {
+                try (DataOutputStream out =
+                        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    putString(out, fingerprint(contributors));
+                    out.writeInt(persisted.size());
+                    for (Map.Entry<String, String> entry : persisted.entrySet()) {
+                        putString(out, entry.getKey());
+                        putString(out, entry.getValue());
+                    }
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            LOGGER.fine(() -> "Saved " + persisted.size() + " lookups to " + file);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to write resolution snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Returns the persisted form of a lookup: The URL, an empty string for a negative result, or null if it cannot
+     * be persisted.
+     */
+    @CheckForNull
+    private static String toPersistedForm(Optional<URL> url) {
+        if (url.isEmpty()) {
+            return "";
+        }
+        String protocol = url.get().getProtocol();
+        return protocol.equals("file") || protocol.equals("jar") ? url.get().toExternalForm() : null;
+    }
+
+    /**
+     * Whether all the specified contributors list their resources, so that the fingerprint changes whenever the
+     * results of lookups may.
+     */
+    private static boolean isListed(List<LocalizationContributor> contributors) {
+        for (LocalizationContributor contributor : contributors) {
+            if (contributor.getResourceNames() == null || contributor.getPluginResourceNames() == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Identifies the current Jenkins version and contributors. Lookups only depend on these, as long as contributors
+     * in the same plugin version provide the same resources.
+     */
+    @NonNull
+    private static String fingerprint(List<LocalizationContributor> contributors) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+        update(digest, String.valueOf(Jenkins.VERSION));
+        for (LocalizationContributor contributor : contributors) {
+            PluginWrapper plugin = Jenkins.get().getPluginManager().whichPlugin(contributor.getClass());
+            update(digest, contributor.getClass().getName());
+            if (plugin != null) {
+                update(digest, plugin.getShortName());
+                update(digest, String.valueOf(plugin.getVersion()));
+                update(digest, String.valueOf(plugin.baseResourceURL));
+            }
+            update(digest, contributor.getResourceNames());
+            Map<String, Set<String>> pluginResourceNames = contributor.getPluginResourceNames();
+            if (pluginResourceNames != null) {
+                for (Map.Entry<String, Set<String>> entry : new TreeMap<>(pluginResourceNames).entrySet()) {
+                    update(digest, entry.getKey());
+                    update(digest, entry.getValue());
+                }
+            }
+        }
+        return Util.toHexString(digest.digest());
+    }
+
+    /**
+     * Adds the specified names to the digest in sorted order, so that it changes whenever any name does.
+     */
+    private static void update(MessageDigest digest, @CheckForNull Set<String> names) {
+        if (names == null) {
+            update(digest, "-");
+            return;
+        }
+        update(digest, String.valueOf(names.size()));
+        for (String name : new TreeSet<>(names)) {
+            update(digest, name);
+        }
+    }
+
+    private static void update(MessageDigest digest, String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).flip());
+        digest.update(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Corrupt resolution snapshot");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static Path getFile() {
+        return Jenkins.get().getRootDir().toPath().resolve("localization-support").resolve("resolution.snapshot");
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.export.Exported;
+import org.kohsuke.stapler.export.ExportedBean;
+
+/**
+ * Deduplicates the keys and values of translations across all loaded bundles, as many of them (e.g. "Cancel" or
+ * "Name") occur in many files. Pooled strings are only weakly referenced, so unused ones can still be collected.
+ */
+@ExportedBean
+@Restricted(NoExternalUse.class)
+public final class StringPool {
+    private static final StringPool INSTANCE = new StringPool();
+
+    /** Number of independently locked stripes, a power of two. */
+    private static final int STRIPES = 32;
+
+    /** Approximate size of a {@link String} and its backing array, excluding the characters. */
+    private static final int STRING_OVERHEAD = 40;
+
+    @SuppressWarnings("unchecked")
+    private final Map<String, WeakReference<String>>[] stripes = new Map[STRIPES];
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    private StringPool() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new WeakHashMap<>();
+        }
+    }
+
+    @NonNull
+    public static StringPool get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the pooled instance equal to the specified string, adding it to the pool if there is none.
+     * @param string the string
+     * @return an equal string, possibly the same instance
+     */
+    @NonNull
+    public String intern(@NonNull String string) {
+        lookups.increment();
+        int hash = string.hashCode();
+        Map<String, WeakReference<String>> stripe = stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+        synchronized (stripe) {
+            WeakReference<String> reference = stripe.get(string);
+            String pooled = reference == null ? null : reference.get();
+            if (pooled != null) {
+                if (pooled != string) {
+                    deduplicated.increment();
+                    bytesSaved.add(STRING_OVERHEAD + string.length());
+                }
+                return pooled;
+            }
+            stripe.put(string, new WeakReference<>(string));
+            return string;
+        }
+    }
+
+    @Exported
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * Number of strings replaced by an equal pooled instance since startup.
+     */
+    @Exported
+    public long getDeduplicated() {
+        return deduplicated.sum();
+    }
+
+    /**
+     * Approximate total size of the duplicates replaced since startup, assuming compact strings.
+     * This is a cumulative count, not the memory saved right now: it keeps growing when the same strings are
+     * deduplicated again, e.g. after translations are reloaded, and does not shrink when pooled strings are collected.
+     */
+    @Exported
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import io.jenkins.plugins.localization.support.localizer.LocalizerManager;
+import io.jenkins.plugins.localization.support.stapler.PropertiesCache;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import org.jvnet.localizer.ResourceBundleHolder;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.export.Exported;
+import org.kohsuke.stapler.export.ExportedBean;
+
+/**
+ * Resolves and parses the translations for a configured set of locales in the background after startup, so the
+ * first users in each locale do not have to.
+ * Only resources listed by {@link LocalizationContributor#getResourceNames()} can be warmed up.
+ */
+@ExportedBean
+@Restricted(NoExternalUse.class)
+public final class WarmUp {
+    private static final Logger LOGGER = Logger.getLogger(WarmUp.class.getName());
+
+    /**
+     * Comma-separated list of locales to warm up, e.g. {@code de,fr,zh_CN}. Warm-up is disabled if unset.
+     */
+    private static final String LOCALES = SystemProperties.getString(WarmUp.class.getName() + ".locales");
+
+    /** Number of threads, at least one and at most what {@link ForkJoinPool} supports. */
+    private static final int PARALLELISM = Math.min(
+            0x7fff,
+            Math.max(
+                    1,
+                    SystemProperties.getInteger(
+                            WarmUp.class.getName() + ".parallelism",
+                            Math.min(4, Runtime.getRuntime().availableProcessors()))));
+
+    private static final String SUFFIX = ".properties";
+
+    private static volatile WarmUp last;
+
+    private final List<String> locales;
+    private final List<String> resources;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger bundles = new AtomicInteger();
+    private final long startedAt = System.currentTimeMillis();
+    private volatile long finishedAt;
+
+    private WarmUp(List<String> locales, List<String> resources) {
+        this.locales = locales;
+        this.resources = resources;
+    }
+
+    @Initializer(after = InitMilestone.JOB_LOADED, requires = LocalizerManager.INITIALIZED)
+    public static void start() {
+        if (LOCALES == null || LOCALES.isBlank()) {
+            return;
+        }
+        List<String> locales = new ArrayList<>();
+        for (String locale : LOCALES.split(",")) {
+            if (!locale.isBlank()) {
+                locales.add(locale.trim());
+            }
+        }
+        WarmUp warmUp = new WarmUp(locales, findResources(locales));
+        last = warmUp;
+        warmUp.run();
+    }
+
+    /**
+     * Returns the most recently started warm-up, or null if warm-up is not configured.
+     * @return the most recently started warm-up
+     */
+    @CheckForNull
+    public static WarmUp getLast() {
+        return last;
+    }
+
+    private static List<String> findResources(List<String> locales) {
+        Set<String> suffixes = new LinkedHashSet<>();
+        for (String locale : locales) {
+            // also warm up the fallbacks, e.g. 'de' for 'de_AT'
+            for (String tag = locale; !tag.isEmpty(); tag = tag.substring(0, Math.max(0, tag.lastIndexOf('_')))) {
+                suffixes.add("_" + tag + SUFFIX);
+            }
+        }
+        Set<String> resources = new LinkedHashSet<>();
+        for (LocalizationContributor contributor : ContributorResources.getContributors()) {
+            Set<String> names = contributor.getResourceNames();
+            if (names == null) {
+                continue;
+            }
+            for (String name : names) {
+                for (String suffix : suffixes) {
+                    if (name.endsWith(suffix)) {
+                        resources.add(name);
+                        break;
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(resources);
+    }
+
+    private void run() {
+        LOGGER.info(() -> "Warming up " + resources.size() + " localization resources for " + locales);
+        ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+        CompletableFuture.allOf(resources.stream()
+                        .map(resource -> CompletableFuture.runAsync(() -> warmUp(resource), pool))
+                        .toArray(CompletableFuture[]::new))
+                .whenComplete((result, error) -> {
+                    finishedAt = System.currentTimeMillis();
+                    pool.shutdown();
+                    LOGGER.info(
+                            () -> "Warmed up " + bundles + " localization bundles in " + getDurationMillis() + " ms");
+                });
+    }
+
+    private void warmUp(String resource) {
+        try {
+            URL url = ContributorResources.getResource(resource);
+            if (url != null) {
+                Class<?> messages = findMessagesClass(resource);
+                if (messages != null) {
+                    ResourceBundleHolder.get(messages).get(toLocale(resource));
+                } else {
+                    PropertiesCache.get(url);
+                }
+                bundles.incrementAndGet();
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Failed to warm up " + resource, e);
+        }
+        int done = completed.incrementAndGet();
+        if (done % Math.max(1, resources.size() / 10) == 0) {
+            LOGGER.fine(() -> "Warmed up " + done + " of " + resources.size() + " localization resources");
+        }
+    }
+
+    /**
+     * Returns the localizer {@code Messages} class using the specified resource, or null if there is none.
+     */
+    @CheckForNull
+    private static Class<?> findMessagesClass(String resource) {
+        int separator = resource.lastIndexOf('/');
+        if (!resource.startsWith("Messages_", separator + 1)) {
+            return null;
+        }
+        String className = resource.substring(0, resource.indexOf('_', separator)).replace('/', '.');
+        try {
+            return Jenkins.get().getPluginManager().uberClassLoader.loadClass(className);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static Locale toLocale(String resource) {
+        int separator = resource.lastIndexOf('/');
+        String tag = resource.substring(resource.indexOf('_', separator) + 1, resource.length() - SUFFIX.length());
+        return Locale.forLanguageTag(tag.replace('_', '-'));
+    }
+
+    @Exported
+    public List<String> getLocales() {
+        return locales;
+    }
+
+    @Exported
+    public int getTotal() {
+        return resources.size();
+    }
+
+    @Exported
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    @Exported
+    public int getBundles() {
+        return bundles.get();
+    }
+
+    @Exported
+    public boolean isFinished() {
+        return finishedAt != 0;
+    }
+
+    /**
+     * Returns the time the warm-up took, or has taken so far.
+     * @return the duration in milliseconds
+     */
+    @Exported
+    public long getDurationMillis() {
+        return (isFinished() ? finishedAt : System.currentTimeMillis()) - startedAt;
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.archive;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.localization.support.StringPool;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A memory-mapped archive of translation resources, as written by {@link TranslationArchiveBuilder}.
+ *
+ * <p>All numbers are big-endian {@code int}s. The archive consists of:
+ * <ol>
+ *     <li>A header: magic number, format version, number of strings, number of entries, number of table pairs,
+ *     and the positions of the string, entry, table, and data sections.</li>
+ *     <li>The string section: {@code stringCount + 1} offsets into the UTF-8 bytes that follow them, so string
+ *     {@code i} spans from offset {@code i} to offset {@code i + 1}. Strings are deduplicated.</li>
+ *     <li>The entry section: one entry per resource, sorted by the UTF-8 bytes of the resource name. Each entry
+ *     consists of the name's string index, the offset and length of the resource in the data section, and the offset
+ *     and number of key/value pairs in the table section, or {@code -1} for resources that are not
+ *     {@code .properties} files.</li>
+ *     <li>The table section: pairs of string indexes, the pre-decoded keys and values of {@code .properties}
+ *     files.</li>
+ *     <li>The data section: the original bytes of every resource.</li>
+ * </ol>
+ * Plugin resources are stored with names starting with {@link #PLUGIN_PREFIX}, followed by the plugin short name, a
+ * slash, and the resource name.
+ */
+final class TranslationArchive {
+    static final int MAGIC = 0x4C53504B; // "LSPK"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 9 * Integer.BYTES;
+    static final int ENTRY_SIZE = 5 * Integer.BYTES;
+    static final String PLUGIN_PREFIX = "plugin:";
+    static final String PROTOCOL = "lspack";
+
+    private final ByteBuffer buffer;
+    private final long lastModified;
+    private final int stringCount;
+    private final int entryCount;
+    private final int stringsPos;
+    private final int stringBytesPos;
+    private final int entriesPos;
+    private final int tablesPos;
+    private final int dataPos;
+
+    /** Lazily decoded strings. Racy, but strings are immutable and decoding them twice is harmless. */
+    private final String[] strings;
+
+    private final Set<String> resourceNames;
+    private final Map<String, Set<String>> pluginResourceNames;
+    private final URLStreamHandler handler = new Handler();
+
+    private TranslationArchive(ByteBuffer buffer, long lastModified) throws IOException {
+        this.buffer = buffer;
+        this.lastModified = lastModified;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a translation archive");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported translation archive version " + buffer.getInt(4));
+        }
+        stringCount = buffer.getInt(8);
+        entryCount = buffer.getInt(12);
+        int pairCount = buffer.getInt(16);
+        stringsPos = buffer.getInt(20);
+        entriesPos = buffer.getInt(24);
+        tablesPos = buffer.getInt(28);
+        dataPos = buffer.getInt(32);
+        // Sums are computed as longs so that large counts in a corrupt header cannot overflow into valid positions.
+        long stringBytesEnd = stringsPos + (stringCount + 1L) * Integer.BYTES;
+        check(stringCount >= 0
+                && entryCount >= 0
+                && pairCount >= 0
+                && stringsPos >= HEADER_SIZE
+                && stringBytesEnd <= entriesPos
+                && entriesPos + (long) entryCount * ENTRY_SIZE <= tablesPos
+                && tablesPos + pairCount * 2L * Integer.BYTES <= dataPos
+                && dataPos <= buffer.capacity());
+        stringBytesPos = (int) stringBytesEnd;
+        validate(pairCount);
+        strings = new String[stringCount];
+
+        Set<String> resources = new HashSet<>();
+        Map<String, Set<String>> pluginResources = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            String name = getName(i);
+            if (name.startsWith(PLUGIN_PREFIX)) {
+                int separator = name.indexOf('/', PLUGIN_PREFIX.length());
+                if (separator > 0) {
+                    pluginResources
+                            .computeIfAbsent(name.substring(PLUGIN_PREFIX.length(), separator), k -> new HashSet<>())
+                            .add(name.substring(separator + 1));
+                }
+            } else {
+                resources.add(name);
+            }
+        }
+        resourceNames = Collections.unmodifiableSet(resources);
+        pluginResourceNames = Collections.unmodifiableMap(pluginResources);
+    }
+
+    /**
+     * Checks that every string offset, entry, and table pair lies within its section, so that later reads of the
+     * archive cannot fail or allocate arbitrarily large arrays.
+     */
+    private void validate(int pairCount) throws IOException {
+        long previous = 0;
+        for (int i = 0; i <= stringCount; i++) {
+            long offset = buffer.getInt(stringsPos + i * Integer.BYTES);
+            check(offset >= previous && stringBytesPos + offset <= entriesPos);
+            previous = offset;
+        }
+        for (int i = 0; i < entryCount; i++) {
+            int position = entriesPos + i * ENTRY_SIZE;
+            long dataOffset = buffer.getInt(position + 4);
+            long dataLength = buffer.getInt(position + 8);
+            long tableOffset = buffer.getInt(position + 12);
+            long tableLength = buffer.getInt(position + 16);
+            checkString(buffer.getInt(position));
+            check(dataOffset >= 0 && dataLength >= 0 && dataPos + dataOffset + dataLength <= buffer.capacity());
+            check(tableLength == -1
+                    || (tableOffset >= 0 && tableLength >= 0 && tableOffset + tableLength <= pairCount));
+        }
+        for (int i = 0; i < pairCount * 2; i++) {
+            checkString(buffer.getInt(tablesPos + i * Integer.BYTES));
+        }
+    }
+
+    private void checkString(int string) throws IOException {
+        check(string >= 0 && string < stringCount);
+    }
+
+    private static void check(boolean valid) throws IOException {
+        if (!valid) {
+            throw new IOException("Corrupt translation archive");
+        }
+    }
+
+    /**
+     * Maps the specified archive file into memory.
+     * @param file the archive
+     * @return the archive
+     * @throws IOException if the file could not be read or is not a valid archive
+     */
+    @NonNull
+    static TranslationArchive open(@NonNull Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Translation archive too large: " + file);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new TranslationArchive(buffer, Files.getLastModifiedTime(file).toMillis());
+        }
+    }
+
+    static String pluginResourceName(String plugin, String resource) {
+        return PLUGIN_PREFIX + plugin + "/" + resource;
+    }
+
+    @NonNull
+    Set<String> getResourceNames() {
+        return resourceNames;
+    }
+
+    @NonNull
+    Map<String, Set<String>> getPluginResourceNames() {
+        return pluginResourceNames;
+    }
+
+    /**
+     * Returns a URL for the specified resource, or null if it is not in this archive.
+     * @param name the resource name
+     * @return the URL for the resource, or null if not found
+     */
+    @CheckForNull
+    URL getResource(@NonNull String name) {
+        if (find(name) < 0) {
+            return null;
+        }
+        try {
+            return new URL(PROTOCOL, null, -1, "/" + name, handler);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Returns the pre-decoded keys and values of the {@code .properties} file at the specified URL, or null if the
+     * URL does not point to a {@code .properties} file in this archive.
+     * @param url a URL returned by {@link #getResource(String)}
+     * @return the keys and values, or null
+     */
+    @CheckForNull
+    Map<String, String> getTable(@NonNull URL url) {
+        if (!PROTOCOL.equals(url.getProtocol())) {
+            return null;
+        }
+        int entry = find(url.getPath().substring(1));
+        if (entry < 0) {
+            return null;
+        }
+        int position = entriesPos + entry * ENTRY_SIZE;
+        int tableOffset = buffer.getInt(position + 12);
+        int tableLength = buffer.getInt(position + 16);
+        if (tableLength < 0) {
+            return null;
+        }
+        Map<String, String> table = new HashMap<>(tableLength * 4 / 3 + 1);
+        for (int i = 0; i < tableLength; i++) {
+            int pair = tablesPos + (tableOffset + i) * 2 * Integer.BYTES;
+            table.put(getString(buffer.getInt(pair)), getString(buffer.getInt(pair + Integer.BYTES)));
+        }
+        return Collections.unmodifiableMap(table);
+    }
+
+    private int find(String name) {
+        byte[] target = name.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compare(buffer.getInt(entriesPos + mid * ENTRY_SIZE), target);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the UTF-8 bytes of the specified string with the target bytes, the order entries are sorted in.
+     */
+    private int compare(int string, byte[] target) {
+        int start = getStringStart(string);
+        int length = getStringStart(string + 1) - start;
+        int common = Math.min(length, target.length);
+        for (int i = 0; i < common; i++) {
+            int comparison = Byte.compareUnsigned(buffer.get(start + i), target[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return length - target.length;
+    }
+
+    private String getName(int entry) {
+        return getString(buffer.getInt(entriesPos + entry * ENTRY_SIZE));
+    }
+
+    private String getString(int string) {
+        String result = strings[string];
+        if (result == null) {
+            int start = getStringStart(string);
+            byte[] bytes = new byte[getStringStart(string + 1) - start];
+            buffer.get(start, bytes);
+            result = StringPool.get().intern(new String(bytes, StandardCharsets.UTF_8));
+            strings[string] = result;
+        }
+        return result;
+    }
+
+    private int getStringStart(int string) {
+        return stringBytesPos + buffer.getInt(stringsPos + string * Integer.BYTES);
+    }
+
+    private final class Handler extends URLStreamHandler {
+        @Override
+        protected URLConnection openConnection(URL url) throws IOException {
+            int entry = find(url.getPath().substring(1));
+            if (entry < 0) {
+                throw new FileNotFoundException(url.toString());
+            }
+            int position = entriesPos + entry * ENTRY_SIZE;
+            ByteBuffer data = buffer.slice(dataPos + buffer.getInt(position + 4), buffer.getInt(position + 8));
+            return new Connection(url, data);
+        }
+    }
+
+    private final class Connection extends URLConnection {
+        private final ByteBuffer data;
+
+        private Connection(URL url, ByteBuffer data) {
+            super(url);
+            this.data = data;
+        }
+
+        @Override
+        public void connect() {
+            connected = true;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteBufferInputStream(data.duplicate());
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return data.remaining();
+        }
+
+        @Override
+        public String getContentType() {
+            return guessContentTypeFromName(url.getPath());
+        }
+
+        @Override
+        public long getLastModified() {
+            return lastModified;
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer data;
+
+        private ByteBufferInputStream(ByteBuffer data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read() {
+            return data.hasRemaining() ? data.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!data.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, data.remaining());
+            data.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return data.remaining();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.archive;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Builds a {@link TranslationArchive} from a directory of resources.
+ *
+ * <p>Files are stored under their path relative to the directory, except those in {@code plugins/<shortName>/}, which
+ * are stored as resources of the plugin with that short name.
+ * Run it as {@code java -cp localization-support.jar
+ * io.jenkins.plugins.localization.support.archive.TranslationArchiveBuilder <directory> <archive>}.
+ */
+@Restricted(NoExternalUse.class)
+public final class TranslationArchiveBuilder {
+    private static final String PLUGINS_DIRECTORY = "plugins/";
+
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+    private TranslationArchiveBuilder() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: TranslationArchiveBuilder <directory> <archive>");
+            return;
+        }
+        build(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    /**
+     * Builds an archive of all files in the specified directory.
+     * @param directory the directory containing the resources
+     * @param archive the archive file to write
+     * @throws IOException if reading the resources or writing the archive failed
+     */
+    public static void build(@NonNull Path directory, @NonNull Path archive) throws IOException {
+        new TranslationArchiveBuilder().write(collect(directory), archive);
+    }
+
+    private static List<Resource> collect(Path directory) throws IOException {
+        List<Resource> resources = new ArrayList<>();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            String path = directory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+            String name = path;
+            int separator = path.indexOf('/', PLUGINS_DIRECTORY.length());
+            if (path.startsWith(PLUGINS_DIRECTORY) && separator > 0) {
+                name = TranslationArchive.pluginResourceName(
+                        path.substring(PLUGINS_DIRECTORY.length(), separator), path.substring(separator + 1));
+            }
+            resources.add(new Resource(name, Files.readAllBytes(file)));
+        }
+        resources.sort((a, b) -> Arrays.compareUnsigned(a.nameBytes, b.nameBytes));
+        return resources;
+    }
+
+    private void write(List<Resource> resources, Path archive) throws IOException {
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        ByteArrayOutputStream tables = new ByteArrayOutputStream();
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        DataOutputStream entriesOut = new DataOutputStream(entries);
+        DataOutputStream tablesOut = new DataOutputStream(tables);
+        int pairCount = 0;
+        for (Resource resource : resources) {
+            entriesOut.writeInt(intern(resource.name));
+            entriesOut.writeInt(data.size());
+            entriesOut.writeInt(resource.bytes.length);
+            data.write(resource.bytes);
+            if (resource.name.endsWith(".properties")) {
+                PropertyResourceBundle bundle = new PropertyResourceBundle(new ByteArrayInputStream(resource.bytes));
+                List<String> keys = new ArrayList<>(bundle.keySet());
+                entriesOut.writeInt(pairCount);
+                entriesOut.writeInt(keys.size());
+                for (String key : keys) {
+                    tablesOut.writeInt(intern(key));
+                    tablesOut.writeInt(intern(bundle.getString(key)));
+                }
+                pairCount += keys.size();
+            } else {
+                entriesOut.writeInt(0);
+                entriesOut.writeInt(-1);
+            }
+        }
+
+        ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream stringsSection = new ByteArrayOutputStream();
+        DataOutputStream stringsOut = new DataOutputStream(stringsSection);
+        for (String string : strings.keySet()) {
+            stringsOut.writeInt(stringBytes.size());
+            stringBytes.write(string.getBytes(StandardCharsets.UTF_8));
+        }
+        stringsOut.writeInt(stringBytes.size());
+        stringBytes.writeTo(stringsOut);
+
+        int stringsPos = TranslationArchive.HEADER_SIZE;
+        int entriesPos = stringsPos + stringsSection.size();
+        int tablesPos = entriesPos + entries.size();
+        int dataPos = tablesPos + tables.size();
+
+        try (OutputStream out = Files.newOutputStream(archive)) {
+            DataOutputStream header = new DataOutputStream(out);
+            header.writeInt(TranslationArchive.MAGIC);
+            header.writeInt(TranslationArchive.VERSION);
+            header.writeInt(strings.size());
+            header.writeInt(resources.size());
+            header.writeInt(pairCount);
+            header.writeInt(stringsPos);
+            header.writeInt(entriesPos);
+            header.writeInt(tablesPos);
+            header.writeInt(dataPos);
+            stringsSection.writeTo(out);
+            entries.writeTo(out);
+            tables.writeTo(out);
+            data.writeTo(out);
+        }
+    }
+
+    private int intern(String string) {
+        return strings.computeIfAbsent(string, k -> strings.size());
+    }
+
+    private static final class Resource {
+        private final String name;
+        private final byte[] nameBytes;
+        private final byte[] bytes;
+
+        private Resource(String name, byte[] bytes) {
+            this.name = name;
+            this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            this.bytes = bytes;
+        }
+    }
+}
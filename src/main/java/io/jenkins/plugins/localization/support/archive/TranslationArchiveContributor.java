@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.archive;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.PluginWrapper;
+import io.jenkins.plugins.localization.support.LocalizationContributor;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Provides the resources in a {@link TranslationArchive}, by default
+ * {@code $JENKINS_HOME/localization-support/translations.lspack}.
+ * The archive is opened on first use, so changes to it require a restart.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class TranslationArchiveContributor extends LocalizationContributor {
+    private static final Logger LOGGER = Logger.getLogger(TranslationArchiveContributor.class.getName());
+
+    /**
+     * Location of the archive, overriding the default in {@code JENKINS_HOME}.
+     */
+    private static final String ARCHIVE =
+            SystemProperties.getString(TranslationArchiveContributor.class.getName() + ".archive");
+
+    /**
+     * The opened archive, or null if there is none. Only valid once {@link #loaded} is set.
+     */
+    private volatile TranslationArchive archive;
+
+    private volatile boolean loaded;
+
+    @Override
+    public URL getResource(@NonNull String resource) {
+        TranslationArchive archive = getArchive();
+        return archive == null ? null : archive.getResource(resource);
+    }
+
+    @Override
+    public URL getPluginResource(@NonNull String resource, @NonNull PluginWrapper plugin) {
+        TranslationArchive archive = getArchive();
+        return archive == null
+                ? null
+                : archive.getResource(TranslationArchive.pluginResourceName(plugin.getShortName(), resource));
+    }
+
+    @Override
+    public Set<String> getResourceNames() {
+        TranslationArchive archive = getArchive();
+        return archive == null ? Set.of() : archive.getResourceNames();
+    }
+
+    @Override
+    public Map<String, Set<String>> getPluginResourceNames() {
+        TranslationArchive archive = getArchive();
+        return archive == null ? Map.of() : archive.getPluginResourceNames();
+    }
+
+    /**
+     * Returns the pre-decoded keys and values of a {@code .properties} file returned by this contributor, so they do
+     * not need to be parsed.
+     * @param url the URL of a resource
+     * @return the keys and values, or null if the URL does not point to a {@code .properties} file in the archive
+     */
+    @CheckForNull
+    public static Map<String, String> getTable(@NonNull URL url) {
+        if (!TranslationArchive.PROTOCOL.equals(url.getProtocol())) {
+            return null;
+        }
+        TranslationArchive archive = ExtensionList.lookupSingleton(TranslationArchiveContributor.class).getArchive();
+        return archive == null ? null : archive.getTable(url);
+    }
+
+    @CheckForNull
+    private TranslationArchive getArchive() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    archive = open();
+                    loaded = true;
+                }
+            }
+        }
+        return archive;
+    }
+
+    @CheckForNull
+    private static TranslationArchive open() {
+        Path file = ARCHIVE != null
+                ? Path.of(ARCHIVE)
+                : Jenkins.get().getRootDir().toPath().resolve("localization-support").resolve("translations.lspack");
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            TranslationArchive archive = TranslationArchive.open(file);
+            LOGGER.info(() -> "Loaded translation archive " + file);
+            return archive;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to open translation archive " + file, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.localizer;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.util.HashMap;
+import java.util.Map;
+import org.jvnet.localizer.ResourceProvider;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Serves translations shipped by {@link AgentTranslations} from memory on an agent, falling back to the class
+ * context for everything else.
+ */
+@Restricted(NoExternalUse.class)
+public class AgentResourceProvider extends ResourceProvider {
+    private static final String PROTOCOL = "lsagent";
+
+    /** The provider installed in this agent, or null if none has been installed yet. */
+    private static AgentResourceProvider installed;
+
+    /** Absolute resource name to contents. Replaced rather than modified when the agent reconnects. */
+    private volatile Map<String, byte[]> resources = Map.of();
+
+    private final URLStreamHandler handler = new Handler();
+
+    @Override
+    public URL getResource(String resource, Class<?> clazz) {
+        String resourceName;
+        if (resource.startsWith("/")) {
+            resourceName = resource.substring(1);
+        } else {
+            resourceName = clazz.getPackage().getName().replace('.', '/') + "/" + resource;
+        }
+        if (resources.containsKey(resourceName)) {
+            try {
+                return new URL(PROTOCOL, null, -1, "/" + resourceName, handler);
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return clazz.getResource(resource);
+    }
+
+    /**
+     * Replaces the translations of the provider in this agent, installing it first if necessary.
+     * @param translations absolute resource name to contents, all translations the agent should serve
+     */
+    static synchronized void install(Map<String, byte[]> translations) {
+        if (installed == null) {
+            if (translations.isEmpty()) {
+                return;
+            }
+            installed = new AgentResourceProvider();
+            ResourceProvider.setProvider(installed);
+        }
+        installed.resources = new HashMap<>(translations);
+    }
+
+    private final class Handler extends URLStreamHandler {
+        @Override
+        protected URLConnection openConnection(URL u) {
+            return new URLConnection(u) {
+                @Override
+                public void connect() {
+                    connected = true;
+                }
+
+                @Override
+                public InputStream getInputStream() throws FileNotFoundException {
+                    byte[] content = resources.get(u.getPath().substring(1));
+                    if (content == null) {
+                        throw new FileNotFoundException(u.toString());
+                    }
+                    return new ByteArrayInputStream(content);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.localizer;
+
+import hudson.Extension;
+import hudson.model.Computer;
+import hudson.model.TaskListener;
+import hudson.remoting.Channel;
+import hudson.remoting.VirtualChannel;
+import hudson.slaves.ComputerListener;
+import io.jenkins.plugins.localization.support.ContributorResources;
+import io.jenkins.plugins.localization.support.LocalizationContributor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.security.MasterToSlaveCallable;
+import org.jvnet.localizer.ResourceBundleHolder;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Ships the contributed {@code Messages} translations for an agent's default locale to the agent when it connects, and
+ * installs {@link AgentResourceProvider} there to serve them. Otherwise agents would load every {@code Messages} file
+ * separately from the controller, and never see contributed translations.
+ * Only resources listed by {@link LocalizationContributor#getResourceNames()} are shipped; the agent serves exactly
+ * these, replacing what it received before. The {@code Messages} translations in plugins themselves are still loaded
+ * from the controller one by one.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class AgentTranslations extends ComputerListener {
+    private static final Logger LOGGER = Logger.getLogger(AgentTranslations.class.getName());
+
+    @Override
+    public void onOnline(Computer c, TaskListener listener) throws IOException, InterruptedException {
+        VirtualChannel channel = c.getChannel();
+        if (!(channel instanceof Channel)) {
+            // the built-in node already uses ResourceProviderImpl
+            return;
+        }
+        try {
+            Locale locale = channel.call(new GetLocale());
+            Map<String, byte[]> translations = collect(locale);
+            // also when empty, so an agent that reconnects forgets translations that are no longer contributed
+            channel.call(new Install(translations));
+            LOGGER.fine(() -> "Shipped " + translations.size() + " translations for " + locale + " to " + c);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to ship translations to " + c, e);
+        }
+    }
+
+    /**
+     * Reads the contributed {@code Messages} files applying to the specified locale.
+     */
+    private static Map<String, byte[]> collect(Locale locale) throws IOException {
+        List<String> suffixes = new ArrayList<>();
+        suffixes.add("_" + locale.getLanguage());
+        if (!locale.getCountry().isEmpty()) {
+            suffixes.add(suffixes.get(0) + "_" + locale.getCountry());
+            if (!locale.getVariant().isEmpty()) {
+                suffixes.add(suffixes.get(1) + "_" + locale.getVariant());
+            }
+        }
+        Map<String, byte[]> translations = new HashMap<>();
+        for (LocalizationContributor contributor : ContributorResources.getContributors()) {
+            Set<String> names = contributor.getResourceNames();
+            if (names == null) {
+                continue;
+            }
+            for (String name : names) {
+                if (translations.containsKey(name) || !isMessages(name, suffixes)) {
+                    continue;
+                }
+                URL url = ContributorResources.getResource(name);
+                if (url != null) {
+                    try (InputStream stream = url.openStream()) {
+                        translations.put(name, stream.readAllBytes());
+                    }
+                }
+            }
+        }
+        return translations;
+    }
+
+    private static boolean isMessages(String name, List<String> suffixes) {
+        int start = name.lastIndexOf('/') + 1;
+        for (String suffix : suffixes) {
+            if (name.length() == start + "Messages".length() + suffix.length() + ".properties".length()
+                    && name.startsWith("Messages", start)
+                    && name.endsWith(suffix + ".properties")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class GetLocale extends MasterToSlaveCallable<Locale, RuntimeException> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Locale call() {
+            return Locale.getDefault();
+        }
+    }
+
+    private static final class Install extends MasterToSlaveCallable<Void, RuntimeException> {
+        private static final long serialVersionUID = 1L;
+
+        private final HashMap<String, byte[]> translations;
+
+        private Install(Map<String, byte[]> translations) {
+            this.translations = new HashMap<>(translations);
+        }
+
+        @Override
+        public Void call() {
+            AgentResourceProvider.install(translations);
+            ResourceBundleHolder.clearCache();
+            return null;
+        }
+    }
+}
@@ -23,11 +23,12 @@
  */
 package io.jenkins.plugins.localization.support.localizer;
 
-import hudson.ExtensionList;
-import hudson.ExtensionListListener;
 import hudson.init.InitMilestone;
 import hudson.init.Initializer;
+import io.jenkins.plugins.localization.support.ContributorChange;
+import io.jenkins.plugins.localization.support.ContributorResources;
 import io.jenkins.plugins.localization.support.LocalizationContributor;
+import io.jenkins.plugins.localization.support.ResolutionSnapshot;
 import org.jvnet.localizer.ResourceBundleHolder;
 import org.jvnet.localizer.ResourceProvider;
 import org.kohsuke.accmod.Restricted;
@@ -37,20 +38,40 @@ import org.kohsuke.accmod.restrictions.NoExternalUse;
  * Utility class to configure the localizer library.
  */
 @Restricted(NoExternalUse.class)
-public class LocalizerManager extends ExtensionListListener {
+public class LocalizerManager {
+    /**
+     * Reactor milestone attained once {@link ResourceProviderImpl} is installed.
+     */
+    public static final String INITIALIZED = "localization-support.localizer.initialized";
+
     /**
      * Listen for changes to known {@link LocalizationContributor} implementations to invalidate the cache in
-     * {@link ResourceBundleHolder}.
+     * {@link ResourceBundleHolder} if localizer resources are affected.
      */
-    @Override
-    public void onChange() {
-        ResourceBundleHolder.clearCache();
+    private static void onChange(ContributorChange change) {
+        if (isLocalizerAffected(change)) {
+            ResourceBundleHolder.clearCache();
+        }
+    }
+
+    private static boolean isLocalizerAffected(ContributorChange change) {
+        if (change.isAffectingAll()) {
+            return true;
+        }
+        for (String resource : change.getAffectedResources()) {
+            // Localizer bundles need not be named Messages, so any properties file may belong to one
+            if (resource.endsWith(".properties")) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    @Initializer(after = InitMilestone.JOB_LOADED)
+    @Initializer(after = InitMilestone.JOB_LOADED, attains = INITIALIZED)
     public static void initialize() {
+        ContributorResources.addListener(LocalizerManager::onChange);
+        ResolutionSnapshot.load();
         ResourceProvider.setProvider(new ResourceProviderImpl());
         ResourceBundleHolder.clearCache();
-        ExtensionList.lookup(LocalizationContributor.class).addListener(new LocalizerManager());
     }
 }
@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.stapler;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.localization.support.ContributorResources;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Finds resources in the jars of {@link io.jenkins.plugins.localization.support.LocalizationContributor}
+ * implementations, for use as {@link org.kohsuke.stapler.MetaClassLoader#debugLoader}.
+ *
+ * <p>Unlike a new {@link URLClassLoader} for every change to the contributors, this keeps one loader per jar for as
+ * long as the jar is needed, closes it once it is not, and remembers where resources were found. Missing resources
+ * are not remembered, as their names come from requests.
+ * It does not load classes.
+ *
+ * <p>Help files ({@code help*.html}) are looked up through {@link ContributorResources} instead, so that contributors
+ * without a jar of their own, like the translation archive, can provide them too.
+ */
+final class ContributorResourceLoader extends ClassLoader {
+    private static final Logger LOGGER = Logger.getLogger(ContributorResourceLoader.class.getName());
+
+    /** Location to the loader for it, in contributor order. Replaced on updates. */
+    private volatile Map<String, URLClassLoader> loaders = Collections.emptyMap();
+
+    /** Resource name to the first matching URL, for resources that exist. Replaced on updates. */
+    private volatile Map<String, URL> resources = new ConcurrentHashMap<>();
+
+    ContributorResourceLoader() {
+        super(null);
+    }
+
+    /**
+     * Updates the jars to look up resources in, reusing loaders for jars that remain and closing the others.
+     * @param locations the code source locations of the contributors, in order
+     */
+    synchronized void update(@NonNull List<URL> locations) {
+        Map<String, URLClassLoader> previous = loaders;
+        Map<String, URLClassLoader> updated = new LinkedHashMap<>();
+        for (URL location : locations) {
+            String key = location.toExternalForm();
+            if (!updated.containsKey(key)) {
+                URLClassLoader loader = previous.get(key);
+                updated.put(key, loader != null ? loader : new URLClassLoader(new URL[] {location}, null));
+            }
+        }
+        loaders = Collections.unmodifiableMap(updated);
+        resources = new ConcurrentHashMap<>();
+
+        for (Map.Entry<String, URLClassLoader> entry : previous.entrySet()) {
+            if (!updated.containsKey(entry.getKey())) {
+                try {
+                    entry.getValue().close();
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Failed to close class loader for " + entry.getKey(), e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public URL getResource(String name) {
+        if (isHelpFile(name)) {
+            return ContributorResources.getResource(name);
+        }
+        Map<String, URL> cache = resources;
+        URL url = cache.get(name);
+        if (url == null) {
+            url = findResource(name);
+            if (url != null) {
+                cache.put(name, url);
+            }
+        }
+        return url;
+    }
+
+    private static boolean isHelpFile(String name) {
+        String fileName = name.substring(name.lastIndexOf('/') + 1);
+        return fileName.startsWith("help") && fileName.endsWith(".html");
+    }
+
+    @Override
+    protected URL findResource(String name) {
+        for (URLClassLoader loader : loaders.values()) {
+            URL url = loader.findResource(name);
+            if (url != null) {
+                return url;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+        return findResources(name);
+    }
+
+    @Override
+    protected Enumeration<URL> findResources(String name) throws IOException {
+        List<URL> result = new ArrayList<>();
+        for (URLClassLoader loader : loaders.values()) {
+            result.addAll(Collections.list(loader.findResources(name)));
+        }
+        return Collections.enumeration(result);
+    }
+}
@@ -25,11 +25,17 @@ package io.jenkins.plugins.localization.support.stapler;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.Extension;
-import hudson.ExtensionList;
 import hudson.PluginWrapper;
-import io.jenkins.plugins.localization.support.LocalizationContributor;
+import io.jenkins.plugins.localization.support.ContributorResources;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import jenkins.PluginLocaleDrivenResourceProvider;
 import jenkins.model.Jenkins;
 import org.kohsuke.accmod.Restricted;
@@ -39,38 +45,105 @@ import org.kohsuke.accmod.restrictions.NoExternalUse;
 @Restricted(NoExternalUse.class)
 public class PluginLocaleDrivenResourceProviderImpl implements PluginLocaleDrivenResourceProvider {
 
+    /**
+     * A locale at the end of a file name without extension: A language, optionally followed by a country, optionally
+     * followed by a variant.
+     */
+    private static final Pattern LOCALE_SUFFIX =
+            Pattern.compile("_[a-z]{2,3}(_(?:[A-Z]{2}|[0-9]{3})(_[A-Za-z0-9]+)?)?$");
+
+    private volatile PluginResourceIndex pluginResourceIndex;
+
     public URL lookup(@NonNull String path) {
-        PluginWrapper pluginWrapper = findPluginForResourceUrl(path);
-        if (pluginWrapper != null) {
-            path = path.substring(pluginWrapper.baseResourceURL.toString().length());
-            LOGGER.fine("Looking up localized file '" + path + "' from plugin '" + pluginWrapper + "'");
-        } else {
-            LOGGER.fine("Looking up localized file '" + path + "' from webapp");
+        URL url = find(path);
+        // only the file actually served needs its contents cached, not the other variants resolved with it
+        return url == null ? null : ServedResources.wrap(url);
+    }
+
+    private URL find(String path) {
+        RequestMemo memo = RequestMemo.current();
+        if (memo == null) {
+            return lookupShared(List.of(path)).get(path);
         }
-        for (LocalizationContributor contributor : ExtensionList.lookup(LocalizationContributor.class)) {
-            URL url;
+        Optional<URL> remembered = memo.getLookup(path);
+        if (remembered != null) {
+            return remembered.orElse(null);
+        }
+        // Stapler asks for the locale variants of a file from the most to the least specific, so resolve them at once
+        List<String> variants = getVariants(path);
+        Map<String, URL> urls = lookupShared(variants);
+        for (String variant : variants) {
+            memo.putLookup(variant, urls.get(variant));
+        }
+        return urls.get(path);
+    }
 
-            if (pluginWrapper == null) {
-                url = contributor.getResource(path);
-            } else {
-                url = contributor.getPluginResource(path, pluginWrapper);
+    /**
+     * Returns the specified path followed by the less specific locale variants of it, e.g. {@code help_de_AT.html},
+     * {@code help_de.html}, and {@code help.html}. Only locale-shaped suffixes are removed, so
+     * {@code help-my_field.html} has no other variants.
+     */
+    static List<String> getVariants(String path) {
+        List<String> variants = new ArrayList<>(4);
+        variants.add(path);
+        int name = path.lastIndexOf('/') + 1;
+        int extension = path.lastIndexOf('.');
+        if (extension < name) {
+            extension = path.length();
+        }
+        String base = path.substring(0, extension);
+        String suffix = path.substring(extension);
+        Matcher locale = LOCALE_SUFFIX.matcher(base);
+        if (locale.find(name) && locale.start() > name) {
+            if (locale.group(2) != null) {
+                variants.add(base.substring(0, locale.start(2)) + suffix);
             }
-            if (url != null) {
-                LOGGER.fine("Found localized file '" + path + "'");
-                return url;
+            if (locale.group(1) != null) {
+                variants.add(base.substring(0, locale.start(1)) + suffix);
             }
+            variants.add(base.substring(0, locale.start()) + suffix);
         }
-        LOGGER.fine("Failed to find localized file '" + path + "'");
-        return null;
+        return variants;
     }
 
-    private PluginWrapper findPluginForResourceUrl(String s) {
-        for (PluginWrapper wrapper : Jenkins.get().pluginManager.getPlugins()) {
-            if (s.startsWith(wrapper.baseResourceURL.toString())) {
-                return wrapper;
+    /**
+     * Looks up files in the same directory, which therefore belong to the same plugin or the webapp.
+     */
+    private Map<String, URL> lookupShared(List<String> paths) {
+        String first = paths.get(0);
+        PluginResourceIndex.Match match = getPluginResourceIndex().find(first);
+        int prefixLength = match == null ? 0 : first.length() - match.path.length();
+        List<String> resources = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            resources.add(path.substring(prefixLength));
+        }
+        Map<String, URL> found;
+        if (match != null) {
+            LOGGER.fine(() -> "Looking up localized files " + resources + " from plugin '" + match.plugin + "'");
+            found = ContributorResources.getPluginResources(resources, match.plugin);
+        } else {
+            LOGGER.fine(() -> "Looking up localized files " + resources + " from webapp");
+            found = ContributorResources.getResources(resources);
+        }
+        LOGGER.fine(() -> "Found localized files " + found.keySet());
+        Map<String, URL> urls = new HashMap<>();
+        for (int i = 0; i < paths.size(); i++) {
+            URL url = found.get(resources.get(i));
+            if (url != null) {
+                urls.put(paths.get(i), url);
             }
         }
-        return null;
+        return urls;
+    }
+
+    private PluginResourceIndex getPluginResourceIndex() {
+        List<PluginWrapper> plugins = Jenkins.get().pluginManager.getPlugins();
+        PluginResourceIndex index = pluginResourceIndex;
+        if (index == null || !index.isCurrent(plugins)) {
+            index = new PluginResourceIndex(plugins);
+            pluginResourceIndex = index;
+        }
+        return index;
     }
 
     private static final Logger LOGGER = Logger.getLogger(PluginLocaleDrivenResourceProviderImpl.class.getName());
@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.stapler;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.PluginWrapper;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Prefix trie of {@link PluginWrapper#baseResourceURL}s, finding the plugin a resource URL belongs to in time
+ * proportional to the length of the URL rather than the number of plugins.
+ */
+final class PluginResourceIndex {
+
+    private final Node root = new Node();
+    private final int pluginCount;
+
+    PluginResourceIndex(@NonNull List<PluginWrapper> plugins) {
+        for (PluginWrapper plugin : plugins) {
+            if (plugin.baseResourceURL == null) {
+                continue;
+            }
+            String base = plugin.baseResourceURL.toString();
+            Node node = root;
+            for (int i = 0; i < base.length(); i++) {
+                node = node.getOrAddChild(base.charAt(i));
+            }
+            if (node.plugin == null) {
+                node.plugin = plugin;
+            }
+        }
+        this.pluginCount = plugins.size();
+    }
+
+    /**
+     * Whether this index was built from the given plugin list. Plugins can be loaded but not unloaded at runtime,
+     * so a changed size is sufficient to detect a change.
+     */
+    boolean isCurrent(@NonNull List<PluginWrapper> plugins) {
+        return plugins.size() == pluginCount;
+    }
+
+    /**
+     * Finds the plugin with the longest base resource URL that is a prefix of the specified URL.
+     * @param url the resource URL
+     * @return the plugin and the path relative to its base resource URL, or null if no plugin matches
+     */
+    @CheckForNull
+    Match find(@NonNull String url) {
+        Node node = root;
+        PluginWrapper plugin = null;
+        int prefixLength = 0;
+        for (int i = 0; i < url.length(); i++) {
+            node = node.child(url.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.plugin != null) {
+                plugin = node.plugin;
+                prefixLength = i + 1;
+            }
+        }
+        return plugin == null ? null : new Match(plugin, url.substring(prefixLength));
+    }
+
+    static final class Match {
+        final PluginWrapper plugin;
+        final String path;
+
+        private Match(PluginWrapper plugin, String path) {
+            this.plugin = plugin;
+            this.path = path;
+        }
+    }
+
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private PluginWrapper plugin;
+
+        private Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i < 0 ? null : children[i];
+        }
+
+        private Node getOrAddChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            System.arraycopy(labels, at, newLabels, at + 1, labels.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            Node child = new Node();
+            newLabels[at] = c;
+            newChildren[at] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.stapler;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.localization.support.BoundedCache;
+import io.jenkins.plugins.localization.support.ContributorChange;
+import io.jenkins.plugins.localization.support.archive.TranslationArchiveContributor;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import jenkins.util.SystemProperties;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Shared cache of parsed translation tables, so the same {@code .properties} file is read and parsed only once no
+ * matter how many bundles, locales, or Stapler cache generations need it.
+ */
+@Restricted(NoExternalUse.class)
+public final class PropertiesCache {
+
+    /** Resource URL to parsed table, grouped by the locale of the resource. */
+    private static final BoundedCache<String, Table> TABLES = new BoundedCache<>(
+            "Translation files",
+            SystemProperties.getLong(PropertiesCache.class.getName() + ".maxBytes", 16L * 1024 * 1024),
+            SystemProperties.getLong(PropertiesCache.class.getName() + ".localeMaxBytes", 0L));
+
+    private PropertiesCache() {}
+
+    /**
+     * Returns the immutable translation table stored in the specified resource, loading it if necessary.
+     * @param url the {@code .properties} resource
+     * @return the keys and values defined in the resource
+     * @throws IOException if the resource could not be read
+     */
+    @NonNull
+    public static Map<String, String> get(@NonNull URL url) throws IOException {
+        String key = url.toExternalForm();
+        long version = versionOf(url);
+        Table table = TABLES.get(key);
+        if (table == null || table.version != version) {
+            table = new Table(version, load(url));
+            TABLES.put(key, table, localeOf(key), BoundedCache.weigh(table.values));
+        }
+        return table.values;
+    }
+
+    /**
+     * Forgets the parsed tables of resources affected by the specified change. Tables stay valid for their URL, but
+     * the URL may no longer be used, so this frees the memory.
+     * @param change the change to the known contributors
+     */
+    static void invalidate(ContributorChange change) {
+        if (change.isAffectingAll()) {
+            TABLES.clear();
+        } else {
+            TABLES.removeIf(change::affectsUrl);
+        }
+    }
+
+    /**
+     * Returns the cache of parsed tables, for its statistics.
+     * @return the cache
+     */
+    @NonNull
+    public static BoundedCache<?, ?> getCache() {
+        return TABLES;
+    }
+
+    /**
+     * Determines the locale of a resource from its file name, e.g. {@code de_AT} for {@code Messages_de_AT.properties},
+     * assuming the base name contains no underscore.
+     */
+    private static String localeOf(String url) {
+        int end = url.endsWith(".properties") ? url.length() - ".properties".length() : url.length();
+        int separator = url.indexOf('_', url.lastIndexOf('/') + 1);
+        return separator < 0 || separator >= end ? "" : url.substring(separator + 1, end);
+    }
+
+    private static Map<String, String> load(URL url) throws IOException {
+        Map<String, String> table = TranslationArchiveContributor.getTable(url);
+        if (table != null) {
+            return table;
+        }
+        Map<String, String> values = new HashMap<>();
+        PropertiesParser.load(url, values);
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Determines a token that changes when the resource is modified: The timestamp of the file, or of the jar file
+     * containing it. Other kinds of URLs are assumed not to change.
+     */
+    private static long versionOf(URL url) {
+        switch (url.getProtocol()) {
+            case "file":
+                try {
+                    return new File(url.toURI()).lastModified();
+                } catch (URISyntaxException | IllegalArgumentException e) {
+                    return 0;
+                }
+            case "jar":
+                String file = url.getFile();
+                int separator = file.indexOf("!/");
+                if (separator < 0) {
+                    return 0;
+                }
+                try {
+                    return versionOf(new URL(file.substring(0, separator)));
+                } catch (MalformedURLException e) {
+                    return 0;
+                }
+            default:
+                return 0;
+        }
+    }
+
+    private static final class Table {
+        private final long version;
+        private final Map<String, String> values;
+
+        private Table(long version, Map<String, String> values) {
+            this.version = version;
+            this.values = values;
+        }
+    }
+}
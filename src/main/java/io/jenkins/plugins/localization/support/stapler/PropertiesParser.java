@@ -0,0 +1,278 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.stapler;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.localization.support.StringPool;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Reads {@code .properties} files directly into a map, without the intermediate copies made by
+ * {@link java.util.PropertyResourceBundle}. Keys and values are deduplicated through {@link StringPool}.
+ * Like {@link java.util.PropertyResourceBundle}, files are decoded as UTF-8, falling back to ISO-8859-1 if they are
+ * not valid UTF-8, and follow the syntax described in {@link java.util.Properties#load(java.io.Reader)}.
+ */
+final class PropertiesParser {
+
+    private final CharBuffer chars;
+    private char[] line = new char[256];
+    private int lineLength;
+
+    private PropertiesParser(CharBuffer chars) {
+        this.chars = chars;
+    }
+
+    /**
+     * Loads the keys and values defined in the specified resource into the specified map.
+     * @param url the {@code .properties} resource
+     * @param target the map to add keys and values to
+     * @throws IOException if the resource could not be read or is malformed
+     */
+    static void load(@NonNull URL url, @NonNull Map<String, String> target) throws IOException {
+        parse(read(url), target);
+    }
+
+    /**
+     * Decodes and parses the specified file contents into the specified map.
+     * @param bytes the contents of a {@code .properties} file
+     * @param target the map to add keys and values to
+     * @throws IOException if the contents are malformed
+     */
+    static void parse(@NonNull byte[] bytes, @NonNull Map<String, String> target) throws IOException {
+        parse(decode(ByteBuffer.wrap(bytes)), target);
+    }
+
+    /**
+     * Parses the specified characters into the specified map.
+     * @param chars the contents of a {@code .properties} file
+     * @param target the map to add keys and values to
+     * @throws IOException if the contents are malformed
+     */
+    static void parse(@NonNull CharBuffer chars, @NonNull Map<String, String> target) throws IOException {
+        new PropertiesParser(chars).parseInto(target);
+    }
+
+    private static byte[] read(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            // translation files are small, so reading them is cheaper than mapping them, and leaves them unlocked
+            try {
+                return Files.readAllBytes(Path.of(url.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // not a plain file after all, so read it as a stream below
+            }
+        }
+        try (InputStream stream = url.openStream()) {
+            return stream.readAllBytes();
+        }
+    }
+
+    private static CharBuffer decode(ByteBuffer bytes) {
+        try {
+            return StandardCharsets.UTF_8
+                    .newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(bytes);
+        } catch (CharacterCodingException e) {
+            return StandardCharsets.ISO_8859_1.decode(bytes.rewind());
+        }
+    }
+
+    private void parseInto(Map<String, String> target) throws IOException {
+        StringPool pool = StringPool.get();
+        int pos = 0;
+        while ((pos = readLogicalLine(pos)) >= 0) {
+            int keyLength = 0;
+            int valueStart = lineLength;
+            boolean hasSeparator = false;
+            boolean precedingBackslash = false;
+            while (keyLength < lineLength) {
+                char c = line[keyLength];
+                if ((c == '=' || c == ':') && !precedingBackslash) {
+                    valueStart = keyLength + 1;
+                    hasSeparator = true;
+                    break;
+                }
+                if ((c == ' ' || c == '\t' || c == '\f') && !precedingBackslash) {
+                    valueStart = keyLength + 1;
+                    break;
+                }
+                precedingBackslash = c == '\\' && !precedingBackslash;
+                keyLength++;
+            }
+            while (valueStart < lineLength) {
+                char c = line[valueStart];
+                if (c != ' ' && c != '\t' && c != '\f') {
+                    if (!hasSeparator && (c == '=' || c == ':')) {
+                        hasSeparator = true;
+                    } else {
+                        break;
+                    }
+                }
+                valueStart++;
+            }
+            target.put(
+                    pool.intern(unescape(0, keyLength)), pool.intern(unescape(valueStart, lineLength - valueStart)));
+        }
+    }
+
+    /**
+     * Reads the next logical line into {@link #line}, skipping blank and comment lines, leading whitespace, and
+     * joining continuation lines, exactly like {@code java.util.Properties.LineReader}. Escape sequences other than
+     * line continuations are preserved.
+     * @return the position after the logical line, or -1 if there are no more lines
+     */
+    private int readLogicalLine(int pos) {
+        int limit = chars.limit();
+        lineLength = 0;
+        boolean skipWhitespace = true;
+        boolean appendedLineBegin = false;
+        boolean precedingBackslash = false;
+        while (true) {
+            if (pos >= limit) {
+                if (lineLength == 0) {
+                    return -1;
+                }
+                if (precedingBackslash) {
+                    lineLength--;
+                }
+                return pos;
+            }
+            char c = chars.get(pos++);
+            if (skipWhitespace) {
+                if (c == ' ' || c == '\t' || c == '\f') {
+                    continue;
+                }
+                if (!appendedLineBegin && (c == '\r' || c == '\n')) {
+                    continue;
+                }
+                skipWhitespace = false;
+                appendedLineBegin = false;
+            }
+            if (lineLength == 0 && (c == '#' || c == '!')) {
+                while (pos < limit && (c = chars.get(pos)) != '\n' && c != '\r') {
+                    pos++;
+                }
+                skipWhitespace = true;
+                continue;
+            }
+            if (c != '\n' && c != '\r') {
+                if (lineLength == line.length) {
+                    char[] grown = new char[line.length * 2];
+                    System.arraycopy(line, 0, grown, 0, lineLength);
+                    line = grown;
+                }
+                line[lineLength++] = c;
+                precedingBackslash = c == '\\' && !precedingBackslash;
+                continue;
+            }
+            if (lineLength == 0) {
+                // empty logical line, e.g. a continuation followed by a blank line
+                skipWhitespace = true;
+                continue;
+            }
+            if (pos >= limit) {
+                // a continuation at the end of the file still ends the logical line, even if it is empty then
+                if (precedingBackslash) {
+                    lineLength--;
+                }
+                return pos;
+            }
+            if (!precedingBackslash) {
+                return pos;
+            }
+            lineLength--;
+            skipWhitespace = true;
+            appendedLineBegin = true;
+            precedingBackslash = false;
+            if (c == '\r' && chars.get(pos) == '\n') {
+                pos++;
+            }
+        }
+    }
+
+    private String unescape(int offset, int length) throws IOException {
+        int end = offset + length;
+        int backslash = offset;
+        while (backslash < end && line[backslash] != '\\') {
+            backslash++;
+        }
+        if (backslash == end) {
+            return new String(line, offset, length);
+        }
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(line, offset, backslash - offset);
+        int pos = backslash;
+        while (pos < end) {
+            char c = line[pos++];
+            if (c != '\\' || pos == end) {
+                sb.append(c);
+                continue;
+            }
+            c = line[pos++];
+            switch (c) {
+                case 'u':
+                    if (pos + 4 > end) {
+                        throw new IOException("Malformed \\uxxxx encoding");
+                    }
+                    int value = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(line[pos++], 16);
+                        if (digit < 0) {
+                            throw new IOException("Malformed \\uxxxx encoding");
+                        }
+                        value = (value << 4) + digit;
+                    }
+                    sb.append((char) value);
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
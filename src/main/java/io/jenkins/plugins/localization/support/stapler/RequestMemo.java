@@ -0,0 +1,148 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.stapler;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.kohsuke.stapler.Stapler;
+import org.kohsuke.stapler.StaplerRequest2;
+
+/**
+ * Remembers localization lookups for the duration of one HTTP request, so repeated lookups while rendering a large
+ * page hit a small unsynchronized map rather than the shared caches.
+ * A request is rendered by a single thread, so no synchronization is needed.
+ */
+final class RequestMemo {
+    private static final Logger LOGGER = Logger.getLogger(RequestMemo.class.getName());
+    private static final String ATTRIBUTE = RequestMemo.class.getName();
+
+    private final Map<String, Optional<URL>> lookups = new HashMap<>();
+    private final Map<Object, Chain> chains = new IdentityHashMap<>();
+    private int lookupHits;
+    private int chainHits;
+
+    /**
+     * Returns the memo for the current request, or null if there is no current request.
+     */
+    @CheckForNull
+    static RequestMemo current() {
+        StaplerRequest2 request = Stapler.getCurrentRequest2();
+        if (request == null) {
+            return null;
+        }
+        Object memo = request.getAttribute(ATTRIBUTE);
+        if (memo instanceof RequestMemo) {
+            return (RequestMemo) memo;
+        }
+        RequestMemo created = new RequestMemo();
+        request.setAttribute(ATTRIBUTE, created);
+        return created;
+    }
+
+    /**
+     * Returns the remembered result of looking up the specified path, or null if it was not looked up yet.
+     */
+    @CheckForNull
+    Optional<URL> getLookup(String path) {
+        Optional<URL> result = lookups.get(path);
+        if (result != null) {
+            lookupHits++;
+        }
+        return result;
+    }
+
+    void putLookup(String path, @CheckForNull URL url) {
+        lookups.put(path, Optional.ofNullable(url));
+    }
+
+    /**
+     * Returns the remembered fallback chain of the specified bundle and locale, or null if it was not needed yet.
+     */
+    @CheckForNull
+    Map<String, String> getChain(Object bundle, Locale locale) {
+        Chain chain = chains.get(bundle);
+        if (chain != null && chain.locale.equals(locale)) {
+            chainHits++;
+            return chain.translations;
+        }
+        return null;
+    }
+
+    void putChain(Object bundle, Locale locale, Map<String, String> translations) {
+        chains.put(bundle, new Chain(locale, translations));
+    }
+
+    @Override
+    public String toString() {
+        return lookupHits + " of " + (lookupHits + lookups.size()) + " resource lookups and " + chainHits + " of "
+                + (chainHits + chains.size()) + " bundle lookups answered from the request memo";
+    }
+
+    private static final class Chain {
+        private final Locale locale;
+        private final Map<String, String> translations;
+
+        private Chain(Locale locale, Map<String, String> translations) {
+            this.locale = locale;
+            this.translations = translations;
+        }
+    }
+
+    /**
+     * Logs the memo statistics of each request, to help diagnose slow pages.
+     * Only registered if the logger is enabled for {@code FINE} when Jenkins starts.
+     */
+    static final class StatisticsFilter implements Filter {
+        static boolean isEnabled() {
+            return LOGGER.isLoggable(Level.FINE);
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                Object memo = request.getAttribute(ATTRIBUTE);
+                if (memo != null && LOGGER.isLoggable(Level.FINE) && request instanceof HttpServletRequest) {
+                    LOGGER.fine(((HttpServletRequest) request).getRequestURI() + ": " + memo);
+                }
+            }
+        }
+    }
+}
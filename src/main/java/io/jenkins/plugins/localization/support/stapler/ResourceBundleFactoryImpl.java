@@ -23,19 +23,30 @@
  */
 package io.jenkins.plugins.localization.support.stapler;
 
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.localization.support.BoundedCache;
+import io.jenkins.plugins.localization.support.ContributorChange;
+import io.jenkins.plugins.localization.support.ContributorResources;
 import io.jenkins.plugins.localization.support.LocalizationContributor;
+import io.jenkins.plugins.localization.support.StringPool;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
-import java.util.PropertyResourceBundle;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import jenkins.util.SystemProperties;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.MetaClass;
 import org.kohsuke.stapler.jelly.ResourceBundle;
 import org.kohsuke.stapler.jelly.ResourceBundleFactory;
 
@@ -43,13 +54,75 @@ import org.kohsuke.stapler.jelly.ResourceBundleFactory;
 public final class ResourceBundleFactoryImpl extends ResourceBundleFactory {
     private static final String DEVELOPMENT_RESOURCES = "src/main/resources";
     private static final String JAR_INDICATOR = ".jar!";
+    private static final String PROPERTIES = ".properties";
     private static final Logger LOGGER = Logger.getLogger(ResourceBundleFactoryImpl.class.getName());
 
+    /**
+     * Base name and locale to the translations of the whole fallback chain for that locale, shared by all bundles
+     * with the same base name, grouped by locale.
+     */
+    private static final BoundedCache<ChainKey, Map<String, String>> CHAINS = new BoundedCache<>(
+            "Merged bundles",
+            SystemProperties.getLong(ResourceBundleFactoryImpl.class.getName() + ".maxBytes", 16L * 1024 * 1024),
+            SystemProperties.getLong(ResourceBundleFactoryImpl.class.getName() + ".localeMaxBytes", 0L));
+
     @Override
     public ResourceBundle create(final String baseName) {
         return new ResourceBundle2(baseName);
     }
 
+    /**
+     * Forgets the merged fallback chains of bundles whose translations may be affected by the specified change.
+     * @param change the change to the known contributors
+     */
+    static void invalidate(ContributorChange change) {
+        if (change.isAffectingAll()) {
+            CHAINS.clear();
+            return;
+        }
+        // 'dir/view_de_AT.properties' may belong to the bundle 'dir/view_de' or 'dir/view'
+        Set<String> affected = new HashSet<>();
+        for (String resource : change.getAffectedResources()) {
+            if (!resource.endsWith(PROPERTIES)) {
+                continue;
+            }
+            String stem = resource.substring(0, resource.length() - PROPERTIES.length());
+            int directory = stem.lastIndexOf('/');
+            for (int i = stem.lastIndexOf('_'); i > directory; i = stem.lastIndexOf('_', i - 1)) {
+                affected.add(stem.substring(0, i));
+            }
+        }
+        if (affected.isEmpty()) {
+            return;
+        }
+        CHAINS.removeIf(key -> {
+            String resource = getCleanBaseName(key.baseName);
+            return affected.contains(resource.startsWith("/") ? resource.substring(1) : resource);
+        });
+    }
+
+    /**
+     * Returns the cache of merged fallback chains, for its statistics.
+     * @return the cache
+     */
+    @NonNull
+    public static BoundedCache<?, ?> getCache() {
+        return CHAINS;
+    }
+
+    /**
+     * Returns the resource name of a bundle relative to the jar or development resources directory containing it.
+     */
+    private static String getCleanBaseName(String baseName) {
+        if (baseName.contains(JAR_INDICATOR)) {
+            return baseName.substring(baseName.indexOf(JAR_INDICATOR) + JAR_INDICATOR.length());
+        } else if (baseName.contains(DEVELOPMENT_RESOURCES)) {
+            // support development
+            return baseName.substring(baseName.indexOf(DEVELOPMENT_RESOURCES) + DEVELOPMENT_RESOURCES.length());
+        }
+        return "";
+    }
+
     private static class ResourceBundle2 extends ResourceBundle {
 
         private ResourceBundle2(String baseName) {
@@ -57,31 +130,104 @@ public final class ResourceBundleFactoryImpl extends ResourceBundleFactory {
         }
 
         @Override
-        protected Properties wrapUp(String locale, Properties props) {
-            String cleanBaseName = "";
-            if (getBaseName().contains(JAR_INDICATOR)) {
-                cleanBaseName = getBaseName().substring(getBaseName().indexOf(JAR_INDICATOR) + JAR_INDICATOR.length());
-            } else if (getBaseName().contains(DEVELOPMENT_RESOURCES)) {
-                // support development
-                cleanBaseName = getBaseName()
-                        .substring(getBaseName().indexOf(DEVELOPMENT_RESOURCES) + DEVELOPMENT_RESOURCES.length());
+        public String getFormatString(Locale locale, String key) {
+            if (MetaClass.NO_CACHE) {
+                return super.getFormatString(locale, key);
+            }
+            RequestMemo memo = RequestMemo.current();
+            if (memo == null) {
+                return getChain(locale).get(key);
             }
+            Map<String, String> chain = memo.getChain(this, locale);
+            if (chain == null) {
+                chain = getChain(locale);
+                memo.putChain(this, locale, chain);
+            }
+            return chain.get(key);
+        }
 
-            String name = cleanBaseName + "_" + locale + ".properties";
+        /**
+         * Returns the translations for the specified locale, merged from the most specific to the most general
+         * locale in the same way {@link ResourceBundle#getFormatString(Locale, String)} looks them up: The first
+         * non-empty value wins.
+         */
+        private Map<String, String> getChain(Locale locale) {
+            return CHAINS.computeIfAbsent(
+                    new ChainKey(getBaseName(), locale), locale.toString(), this::merge, BoundedCache::weigh);
+        }
 
-            URL url = LocalizationContributor.findResource(name, getClass());
-            if (url != null) {
-                try (InputStream stream = url.openStream()) {
-                    PropertyResourceBundle propertyResourceBundle = new PropertyResourceBundle(stream);
-                    Enumeration<String> keys = propertyResourceBundle.getKeys();
-                    // TODO Java 9+ can use 'asIterator' and get rid of below collections conversion
-                    List<String> keysAsSaneType = Collections.list(keys);
-
-                    for (String localKey : keysAsSaneType) {
-                        String value = propertyResourceBundle.getString(localKey);
-                        props.setProperty(localKey, value);
+        private Map<String, String> merge(ChainKey key) {
+            StringPool pool = StringPool.get();
+            Map<String, String> merged = new HashMap<>();
+            List<String> suffixes = getSuffixes(key.locale);
+            String resource = getCleanBaseName(key.baseName);
+            if (resource.startsWith("/")) {
+                // resolve the whole fallback chain at once, so the lookups below find the results cached
+                List<String> names = new ArrayList<>(suffixes.size());
+                for (String suffix : suffixes) {
+                    if (!suffix.isEmpty()) {
+                        names.add(resource.substring(1) + suffix + PROPERTIES);
+                    }
+                }
+                ContributorResources.getResources(names);
+            }
+            for (int i = suffixes.size() - 1; i >= 0; i--) {
+                for (Map.Entry<String, String> entry : load(key.baseName, suffixes.get(i)).entrySet()) {
+                    if (!entry.getValue().isEmpty()) {
+                        merged.put(pool.intern(entry.getKey()), pool.intern(entry.getValue()));
+                    }
+                }
+            }
+            return Collections.unmodifiableMap(merged);
+        }
+
+        /**
+         * Reads the translations for one suffix of the fallback chain, like {@link ResourceBundle#get(String)} and
+         * {@link #wrapUp(String, Properties)} do, but without the cache of this bundle, which is not invalidated when
+         * contributors change.
+         */
+        private Map<String, String> load(String baseName, String suffix) {
+            Map<String, String> table = new HashMap<>();
+            try {
+                table.putAll(PropertiesCache.get(new URL(baseName + suffix + PROPERTIES)));
+            } catch (IOException ex) {
+                // like ResourceBundle#get, treat a missing or unreadable file as empty
+            }
+            if (!suffix.isEmpty()) {
+                String name = getCleanBaseName(baseName) + suffix + PROPERTIES;
+                URL url = LocalizationContributor.findResource(name, getClass());
+                if (url != null) {
+                    try {
+                        table.putAll(PropertiesCache.get(url));
+                    } catch (IOException ex) {
+                        LOGGER.log(Level.WARNING, "Failed to load localized resources file " + name, ex);
                     }
+                }
+            }
+            return table;
+        }
+
+        private static List<String> getSuffixes(Locale locale) {
+            List<String> suffixes = new ArrayList<>(4);
+            String language = "_" + locale.getLanguage();
+            String country = language + "_" + locale.getCountry();
+            String variant = country + "_" + locale.getVariant();
+            for (String suffix : new String[] {variant, country, language, ""}) {
+                if (!suffixes.contains(suffix)) {
+                    suffixes.add(suffix);
+                }
+            }
+            return suffixes;
+        }
+
+        @Override
+        protected Properties wrapUp(String locale, Properties props) {
+            String name = getCleanBaseName(getBaseName()) + "_" + locale + PROPERTIES;
 
+            URL url = LocalizationContributor.findResource(name, getClass());
+            if (url != null) {
+                try {
+                    props.putAll(PropertiesCache.get(url));
                 } catch (IOException ex) {
                     LOGGER.log(Level.WARNING, "Failed to load localized resources file " + name, ex);
                 }
@@ -90,4 +236,28 @@ public final class ResourceBundleFactoryImpl extends ResourceBundleFactory {
             return props;
         }
     }
+
+    private static final class ChainKey {
+        private final String baseName;
+        private final Locale locale;
+
+        private ChainKey(String baseName, Locale locale) {
+            this.baseName = baseName;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ChainKey)) {
+                return false;
+            }
+            ChainKey other = (ChainKey) o;
+            return baseName.equals(other.baseName) && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(baseName, locale);
+        }
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.stapler;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.jenkins.plugins.localization.support.BoundedCache;
+import io.jenkins.plugins.localization.support.ContributorChange;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import jenkins.util.SystemProperties;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Keeps the contents of small contributor-provided files served through {@link PluginLocaleDrivenResourceProviderImpl}
+ * in memory, and reports a stable last modification time for them.
+ * Stapler uses that time for the {@code Last-Modified} header and answers conditional requests with status 304,
+ * so help popups requested over and over neither re-read the file nor send it again.
+ */
+@Restricted(NoExternalUse.class)
+public final class ServedResources {
+
+    /** Files larger than this many bytes are read from the contributor every time. */
+    private static final int MAX_SIZE =
+            SystemProperties.getInteger(ServedResources.class.getName() + ".maxSize", 64 * 1024);
+
+    /** Approximate size of a cached file, excluding its URL and contents. */
+    private static final int ENTRY_WEIGHT = 160;
+
+    /** URL to the contents and modification time of the file, once it has been served. */
+    private static final BoundedCache<String, Content> CONTENTS = new BoundedCache<>(
+            "Served files",
+            SystemProperties.getLong(ServedResources.class.getName() + ".maxBytes", 8L * 1024 * 1024),
+            0);
+
+    private ServedResources() {}
+
+    /**
+     * Returns a URL equal in form to the specified one whose contents and modification time are cached once it is
+     * opened.
+     * @param url the URL returned by a contributor
+     * @return the caching URL
+     */
+    @NonNull
+    static URL wrap(@NonNull URL url) {
+        try {
+            return new URL(url.getProtocol(), url.getHost(), url.getPort(), url.getFile(), new Handler(url));
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Forgets the cached files affected by the specified change.
+     * @param change the change to the known contributors
+     */
+    static void invalidate(ContributorChange change) {
+        if (change.isAffectingAll()) {
+            CONTENTS.clear();
+        } else {
+            CONTENTS.removeIf(change::affectsUrl);
+        }
+    }
+
+    /**
+     * Returns the cache of served files, for its statistics.
+     * @return the cache
+     */
+    @NonNull
+    public static BoundedCache<?, ?> getCache() {
+        return CONTENTS;
+    }
+
+    private static Content get(URL original) throws IOException {
+        String key = original.toExternalForm();
+        // obtained before reading the file, so contents read before an invalidation are not cached
+        Object generation = CONTENTS.getGeneration();
+        Content content = CONTENTS.get(key);
+        if (content == null) {
+            content = new Content(original);
+            long weight = key.length() + ENTRY_WEIGHT + (content.bytes == null ? 0 : content.bytes.length);
+            CONTENTS.put(generation, key, content, "", weight);
+        }
+        return content;
+    }
+
+    private static final class Content {
+        private final long lastModified;
+        private final long contentLength;
+        private final byte[] bytes;
+
+        private Content(URL original) throws IOException {
+            URLConnection connection = original.openConnection();
+            // a modification time of 0 would disable conditional requests, so fall back to when this was cached
+            long modified = connection.getLastModified();
+            lastModified = modified != 0 ? modified : System.currentTimeMillis();
+            long length = connection.getContentLengthLong();
+            try (InputStream stream = connection.getInputStream()) {
+                if (length >= 0 && length <= MAX_SIZE) {
+                    bytes = stream.readAllBytes();
+                    length = bytes.length;
+                } else {
+                    bytes = null;
+                }
+            }
+            contentLength = length;
+        }
+    }
+
+    private static final class Handler extends URLStreamHandler {
+        private final URL original;
+
+        private Handler(URL original) {
+            this.original = original;
+        }
+
+        @Override
+        protected URLConnection openConnection(URL u) {
+            return new URLConnection(u) {
+                private Content content;
+
+                @Override
+                public void connect() throws IOException {
+                    if (content == null) {
+                        content = get(original);
+                    }
+                    connected = true;
+                }
+
+                @Override
+                public InputStream getInputStream() throws IOException {
+                    connect();
+                    return content.bytes != null ? new ByteArrayInputStream(content.bytes) : original.openStream();
+                }
+
+                @Override
+                public long getLastModified() {
+                    try {
+                        connect();
+                    } catch (IOException e) {
+                        return 0;
+                    }
+                    return content.lastModified;
+                }
+
+                @Override
+                public long getContentLengthLong() {
+                    try {
+                        connect();
+                    } catch (IOException e) {
+                        return -1;
+                    }
+                    return content.contentLength;
+                }
+
+                @Override
+                public String getContentType() {
+                    return guessContentTypeFromName(original.getFile());
+                }
+            };
+        }
+    }
+}
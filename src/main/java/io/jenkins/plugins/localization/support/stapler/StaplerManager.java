@@ -23,13 +23,17 @@
  */
 package io.jenkins.plugins.localization.support.stapler;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import hudson.ExtensionList;
-import hudson.ExtensionListListener;
 import hudson.init.Initializer;
+import hudson.util.PluginServletFilter;
+import io.jenkins.plugins.localization.support.ContributorChange;
+import io.jenkins.plugins.localization.support.ContributorResources;
 import io.jenkins.plugins.localization.support.LocalizationContributor;
+import jakarta.servlet.ServletException;
 import java.net.URL;
-import java.net.URLClassLoader;
+import java.security.CodeSource;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import jenkins.model.Jenkins;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
@@ -38,34 +42,52 @@ import org.kohsuke.stapler.WebApp;
 import org.kohsuke.stapler.jelly.JellyFacet;
 
 @Restricted(NoExternalUse.class)
-public class StaplerManager extends ExtensionListListener {
+public class StaplerManager {
+    private static final ContributorResourceLoader HELP_LOADER = new ContributorResourceLoader();
+
     @Initializer
-    public static void initialize() {
+    public static void initialize() throws ServletException {
+        ContributorResources.addListener(StaplerManager::onChange);
+
         { // resources for Jelly files
             WebApp webApp = WebApp.get(Jenkins.get().getServletContext());
 
             // Override where the Jelly views look for resource bundles
             JellyFacet facet = webApp.getFacet(JellyFacet.class);
             facet.resourceBundleFactory = new ResourceBundleFactoryImpl();
+
+            // Log per-request lookup statistics, but do not add a filter to every request unless they are wanted
+            if (RequestMemo.StatisticsFilter.isEnabled()) {
+                PluginServletFilter.addFilter(new RequestMemo.StatisticsFilter());
+            }
         }
 
         { // Provide a fallback source for resources from Descriptor#doHelp
-            ExtensionList.lookup(LocalizationContributor.class).addListener(new StaplerManager());
-
             // TODO add a dedicated feature to Stapler for this
-            MetaClassLoader.debugLoader = buildMetaClassLoader();
+            HELP_LOADER.update(getContributorLocations());
+            MetaClassLoader.debugLoader = new MetaClassLoader(HELP_LOADER);
         }
     }
 
-    private static MetaClassLoader buildMetaClassLoader() {
-        return new MetaClassLoader(new URLClassLoader(ExtensionList.lookup(LocalizationContributor.class).stream()
-                .map(c -> c.getClass().getProtectionDomain().getCodeSource().getLocation())
-                .toArray(URL[]::new)));
+    /**
+     * Returns the jars containing {@link LocalizationContributor} implementations, other than this plugin's own.
+     */
+    private static List<URL> getContributorLocations() {
+        return ContributorResources.getContributors().stream()
+                .map(Object::getClass)
+                .filter(c -> c.getClassLoader() != StaplerManager.class.getClassLoader())
+                .map(c -> c.getProtectionDomain().getCodeSource())
+                .filter(Objects::nonNull)
+                .map(CodeSource::getLocation)
+                .collect(Collectors.toList());
     }
 
-    @Override
-    @SuppressFBWarnings("ST_WRITE_TO_STATIC_FROM_INSTANCE_METHOD")
-    public void onChange() {
-        MetaClassLoader.debugLoader = buildMetaClassLoader();
+    private static void onChange(ContributorChange change) {
+        PropertiesCache.invalidate(change);
+        ResourceBundleFactoryImpl.invalidate(change);
+        ServedResources.invalidate(change);
+        if (change.isContributorsChanged()) {
+            HELP_LOADER.update(getContributorLocations());
+        }
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+
+    @Test
+    void staysWithinWeightLimit() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>("test", 1000, 0);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "value" + i, "", 100);
+            assertTrue(cache.getWeight() <= 1000, "weight " + cache.getWeight() + " after " + i);
+        }
+        assertEquals(10, cache.getEntries());
+        assertEquals(90, cache.getEvictions());
+        assertNotNull(cache.get(99));
+        assertNull(cache.get(0));
+    }
+
+    @Test
+    void staysWithinWeightLimitAfterReplacements() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>("test", 1000, 0);
+        for (int round = 0; round < 1000; round++) {
+            for (int i = 0; i < 10; i++) {
+                cache.put(i, "value" + i, "", 100);
+            }
+        }
+        assertEquals(1000, cache.getWeight());
+        for (int i = 10; i < 20; i++) {
+            cache.put(i, "value" + i, "", 100);
+            assertTrue(cache.getWeight() <= 1000, "weight " + cache.getWeight() + " after " + i);
+        }
+    }
+
+    @Test
+    void staysWithinGroupLimit() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10_000, 300);
+        for (int i = 0; i < 3; i++) {
+            cache.put("fr" + i, "value", "fr", 100);
+        }
+        for (int i = 0; i < 10; i++) {
+            cache.put("de" + i, "value", "de", 100);
+        }
+        assertEquals(600, cache.getWeight());
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(cache.get("fr" + i), "fr" + i + " was evicted for another locale");
+        }
+        for (int i = 7; i < 10; i++) {
+            assertNotNull(cache.get("de" + i));
+        }
+        assertEquals(7, cache.getEvictions());
+    }
+
+    @Test
+    void evictsLeastFrequentlyUsedFirst() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 300, 0);
+        cache.put("often", "value", "", 100);
+        cache.put("never", "value", "", 100);
+        cache.put("once", "value", "", 100);
+        cache.get("often");
+        cache.get("often");
+        cache.get("once");
+
+        cache.put("new", "value", "", 100);
+        assertNull(cache.get("never"));
+        assertNotNull(cache.get("often"));
+        assertNotNull(cache.get("once"));
+
+        // the entries added since have not been used, so they go before those that were
+        cache.put("newer", "value", "", 100);
+        cache.put("newest", "value", "", 100);
+        assertNotNull(cache.get("often"));
+        assertNotNull(cache.get("once"));
+        assertNull(cache.get("new"));
+        assertEquals(3, cache.getEntries());
+    }
+
+    @Test
+    void discardsValuesComputedBeforeInvalidation() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 1000, 0);
+        Object generation = cache.getGeneration();
+        cache.clear();
+        cache.put(generation, "key", "stale", "", 100);
+        assertNull(cache.get("key"));
+        cache.put(cache.getGeneration(), "key", "current", "", 100);
+        assertEquals("current", cache.get("key"));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hudson.ExtensionList;
+import io.jenkins.plugins.localization.support.stapler.ResourceBundleFactoryImpl;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+import org.kohsuke.stapler.MetaClassLoader;
+import org.kohsuke.stapler.jelly.ResourceBundle;
+
+/**
+ * Resolves translations from many threads while contributors are added and removed, checking that lookups never
+ * fail or return missing or outdated translations. Lookup performance is measured by {@link LookupBenchmark}.
+ */
+@WithJenkins
+class ContributorChurnStressTest {
+    private static final String PACKAGE = "io/jenkins/stress/";
+    private static final String STABLE = PACKAGE + "Stable_de.properties";
+    private static final String HELP = PACKAGE + "help-field_de.html";
+    private static final String CHURN = PACKAGE + "Churn_de.properties";
+
+    private static final int THREADS = 8;
+    private static final int CHANGES = 200;
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void lookupsStayConsistentWhileContributorsChange(JenkinsRule j) throws Exception {
+        ExtensionList<LocalizationContributor> contributors = ExtensionList.lookup(LocalizationContributor.class);
+        SyntheticContributor stable = new SyntheticContributor("stable", tmp.resolve("stable"), Set.of(STABLE, HELP))
+                .write(STABLE, "greeting=Hallo\n")
+                .write(HELP, "<div>Hilfe</div>");
+        contributors.add(stable);
+        URL stableUrl = stable.getResource(STABLE);
+        ResourceBundleFactoryImpl factory = new ResourceBundleFactoryImpl();
+        ResourceBundle stableBundle = factory.create(bundle("Stable"));
+        ResourceBundle churnBundle = factory.create(bundle("Churn"));
+
+        // number of the last contributor whose addition started, and of the last one whose removal completed
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        LongAdder lookups = new LongAdder();
+        CountDownLatch started = new CountDownLatch(THREADS);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            threads.add(new Thread(
+                    () -> {
+                        started.countDown();
+                        while (!done.get()) {
+                            int before = removed.get();
+                            try {
+                                URL url = ContributorResources.getResource(STABLE);
+                                if (!stableUrl.equals(url)) {
+                                    failures.add("Stable resource was " + url);
+                                }
+                                String greeting = stableBundle.getFormatString(Locale.GERMAN, "greeting");
+                                if (!"Hallo".equals(greeting)) {
+                                    failures.add("Stable translation was " + greeting);
+                                }
+                                if (MetaClassLoader.debugLoader.loader.getResource(HELP) == null) {
+                                    failures.add("Stable help file was not found");
+                                }
+                                check(ContributorResources.getResource(CHURN), before, added.get(), failures);
+                                String value = churnBundle.getFormatString(Locale.GERMAN, "value");
+                                check(value, before, added.get(), failures);
+                            } catch (RuntimeException | Error e) {
+                                failures.add("Lookup failed: " + e);
+                            }
+                            lookups.increment();
+                        }
+                    },
+                    "Lookup " + t));
+        }
+
+        threads.forEach(Thread::start);
+        assertTrue(started.await(1, TimeUnit.MINUTES));
+        try {
+            for (int i = 1; i <= CHANGES; i++) {
+                SyntheticContributor churn = new SyntheticContributor(
+                                "churn" + i, tmp.resolve("churn" + i), Set.of(CHURN))
+                        .write(CHURN, "value=" + i + "\n");
+                added.set(i);
+                contributors.add(churn);
+                assertEquals(String.valueOf(i), churnBundle.getFormatString(Locale.GERMAN, "value"));
+                assertEquals(churn.getResource(CHURN), ContributorResources.getResource(CHURN));
+
+                contributors.remove(churn);
+                removed.set(i);
+                assertNull(churnBundle.getFormatString(Locale.GERMAN, "value"));
+                assertNull(ContributorResources.getResource(CHURN));
+            }
+        } finally {
+            done.set(true);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        assertTrue(
+                failures.isEmpty(),
+                failures.size() + " of " + lookups.sum() + " lookups failed, e.g. " + failures.peek());
+        assertTrue(lookups.sum() > 0, "No lookups completed");
+    }
+
+    /**
+     * Checks that a translation or URL of a churning contributor, if any, belongs to one that may be present.
+     */
+    private void check(Object result, int removedBefore, int addedAfter, Queue<String> failures) {
+        if (result == null) {
+            return;
+        }
+        String text = result.toString();
+        int number = result instanceof URL
+                ? Integer.parseInt(text.replaceFirst(".*/churn([0-9]+)/.*", "$1"))
+                : Integer.parseInt(text);
+        if (number <= removedBefore || number > addedAfter) {
+            failures.add("Result " + text + " of contributor " + number + " was returned while only "
+                    + (removedBefore + 1) + " to " + addedAfter + " could be present");
+        }
+    }
+
+    private String bundle(String name) {
+        return tmp.toUri() + "src/main/resources/" + PACKAGE + name;
+    }
+}
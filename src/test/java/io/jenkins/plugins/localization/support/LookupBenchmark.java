@@ -0,0 +1,163 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import hudson.ExtensionList;
+import io.jenkins.plugins.localization.support.stapler.PluginLocaleDrivenResourceProviderImpl;
+import io.jenkins.plugins.localization.support.stapler.ResourceBundleFactoryImpl;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import org.kohsuke.stapler.jelly.ResourceBundle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures resource lookups through {@link LocalizationContributor#findResource(String, Class)},
+ * {@link PluginLocaleDrivenResourceProviderImpl#lookup(String)}, and the {@code wrapUp} step of Stapler bundles, with
+ * a varying number of contributors, resources, and share of resources that exist. These hit the caches after the
+ * first pass over the names, so {@link #indexLookup(Contributors)} measures the uncached lookup in
+ * {@link ContributorIndex}.
+ */
+@JmhBenchmark
+public class LookupBenchmark {
+    private static final String PACKAGE = "io/jenkins/bench/";
+
+    /** Number of names each benchmark cycles through, a power of two. */
+    private static final int NAMES = 4096;
+
+    public static class Contributors extends JmhBenchmarkState {
+        @Param({"1", "10"})
+        public int contributors;
+
+        @Param({"100", "10000"})
+        public int resources;
+
+        @Param({"0", "50", "100"})
+        public int hitPercent;
+
+        /** Whether contributors list their resources, so lookups are routed directly. */
+        @Param({"true", "false"})
+        public boolean listed;
+
+        private final List<SyntheticContributor> added = new ArrayList<>();
+        private ContributorIndex index;
+        private String[] names;
+        private ResourceBundle[] bundles;
+        private int next;
+
+        @Override
+        public void setup() throws Exception {
+            Path root = Files.createTempDirectory("lookup-benchmark");
+            List<Set<String>> owned = new ArrayList<>();
+            for (int c = 0; c < contributors; c++) {
+                owned.add(new HashSet<>());
+            }
+            for (int r = 0; r < resources; r++) {
+                owned.get(r % contributors).add(resource(r));
+            }
+            ExtensionList<LocalizationContributor> list = ExtensionList.lookup(LocalizationContributor.class);
+            for (int c = 0; c < contributors; c++) {
+                SyntheticContributor contributor = new SyntheticContributor(
+                        "benchmark-" + c, root.resolve("contributor-" + c), listed ? owned.get(c) : null);
+                for (String resource : owned.get(c)) {
+                    contributor.write(resource, "key=value of " + resource + "\n");
+                }
+                added.add(contributor);
+                // the index is ignored, contributors are appended and listeners notified as for add(Object)
+                list.add(0, contributor);
+            }
+            index = new ContributorIndex();
+
+            Random random = new Random(42);
+            names = new String[NAMES];
+            bundles = new ResourceBundle[NAMES];
+            ResourceBundleFactoryImpl factory = new ResourceBundleFactoryImpl();
+            for (int i = 0; i < NAMES; i++) {
+                boolean hit = random.nextInt(100) < hitPercent;
+                String bundle = (hit ? "Bundle" : "Missing") + random.nextInt(resources);
+                names[i] = PACKAGE + bundle + "_de.properties";
+                // the clean base name of a bundle starts after src/main/resources
+                bundles[i] = factory.create(root.toUri() + "src/main/resources/" + PACKAGE + bundle);
+            }
+        }
+
+        @Override
+        public void tearDown() {
+            ExtensionList<LocalizationContributor> list = ExtensionList.lookup(LocalizationContributor.class);
+            for (SyntheticContributor contributor : added) {
+                list.remove(contributor);
+            }
+        }
+
+        private int next() {
+            return next++ & (NAMES - 1);
+        }
+
+        private static String resource(int r) {
+            return PACKAGE + "Bundle" + r + "_de.properties";
+        }
+    }
+
+    private static final Method WRAP_UP;
+
+    static {
+        try {
+            WRAP_UP = ResourceBundle.class.getDeclaredMethod("wrapUp", String.class, Properties.class);
+            WRAP_UP.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Benchmark
+    public URL findResource(Contributors state) {
+        return LocalizationContributor.findResource("/" + state.names[state.next()], LookupBenchmark.class);
+    }
+
+    @Benchmark
+    public URL indexLookup(Contributors state) {
+        return state.index.getResource(state.names[state.next()]);
+    }
+
+    @Benchmark
+    public URL lookup(Contributors state) {
+        return ExtensionList.lookupSingleton(PluginLocaleDrivenResourceProviderImpl.class)
+                .lookup(state.names[state.next()]);
+    }
+
+    @Benchmark
+    public Object wrapUp(Contributors state) throws Exception {
+        return WRAP_UP.invoke(state.bundles[state.next()], "de", new Properties());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.PluginWrapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link LocalizationContributor} for tests and benchmarks, serving files from a directory. Plugin resources are
+ * located in {@code plugins/<short name>/}.
+ */
+public class SyntheticContributor extends LocalizationContributor {
+    private final String name;
+    private final Path root;
+    private final Set<String> resourceNames;
+
+    /**
+     * @param name the name, distinguishing the statistics of different instances
+     * @param root the directory containing the resources
+     * @param resourceNames the resources to list, or null to list none and look up every resource
+     */
+    public SyntheticContributor(@NonNull String name, @NonNull Path root, @CheckForNull Set<String> resourceNames) {
+        this.name = name;
+        this.root = root;
+        this.resourceNames = resourceNames;
+    }
+
+    /**
+     * Writes a resource into the directory of this contributor.
+     * @param resource the resource name
+     * @param content the content
+     * @return this contributor
+     */
+    @NonNull
+    public SyntheticContributor write(@NonNull String resource, @NonNull String content) {
+        try {
+            Path file = root.resolve(resource);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    @Override
+    public URL getResource(@NonNull String resource) {
+        if (resourceNames != null && !resourceNames.contains(resource)) {
+            return null;
+        }
+        return find(root.resolve(resource));
+    }
+
+    @Override
+    public URL getPluginResource(@NonNull String resource, @NonNull PluginWrapper plugin) {
+        return find(root.resolve("plugins").resolve(plugin.getShortName()).resolve(resource));
+    }
+
+    @Override
+    public Set<String> getResourceNames() {
+        return resourceNames;
+    }
+
+    @Override
+    public Map<String, Set<String>> getPluginResourceNames() {
+        return resourceNames == null ? null : Map.of();
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    private static URL find(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return file.toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TranslationArchiveTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void readsResources() throws IOException {
+        TranslationArchive archive = TranslationArchive.open(build());
+        assertEquals(Set.of("hudson/Messages_de.properties", "help_de.html"), archive.getResourceNames());
+        assertEquals(Map.of("git", Set.of("Messages_de.properties")), archive.getPluginResourceNames());
+
+        URL url = archive.getResource("hudson/Messages_de.properties");
+        assertNotNull(url);
+        assertEquals(Map.of("a", "\u00c4", "b", "c"), archive.getTable(url));
+        try (InputStream in = url.openStream()) {
+            assertEquals("a=\\u00c4\nb=c\n", new String(in.readAllBytes(), StandardCharsets.ISO_8859_1));
+        }
+        URL help = archive.getResource("help_de.html");
+        assertNotNull(help);
+        assertNull(archive.getTable(help));
+        assertNull(archive.getResource("missing.properties"));
+    }
+
+    @Test
+    void rejectsCorruptOffsets() throws IOException {
+        Path file = build();
+        byte[] original = Files.readAllBytes(file);
+        ByteBuffer header = ByteBuffer.wrap(original);
+        // the first string offset, then the data offset of the first entry
+        corrupt(file, original, header.getInt(20), 0x7FFFFFF0);
+        assertThrows(IOException.class, () -> TranslationArchive.open(file));
+        corrupt(file, original, header.getInt(24) + 4, Integer.MAX_VALUE);
+        assertThrows(IOException.class, () -> TranslationArchive.open(file));
+        corrupt(file, original, 8, Integer.MAX_VALUE);
+        assertThrows(IOException.class, () -> TranslationArchive.open(file));
+    }
+
+    @Test
+    void corruptArchivesOnlyFailToOpen() throws IOException {
+        Path file = build();
+        byte[] original = Files.readAllBytes(file);
+        Random random = new Random(42);
+        int[] values = {-1, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int position = 8; position + Integer.BYTES <= original.length; position += Integer.BYTES) {
+            for (int value : values) {
+                corrupt(file, original, position, value);
+                readAll(file);
+            }
+            corrupt(file, original, position, random.nextInt());
+            readAll(file);
+        }
+    }
+
+    private Path build() throws IOException {
+        Path directory = Files.createDirectories(tmp.resolve("resources"));
+        Files.createDirectories(directory.resolve("hudson"));
+        Files.writeString(directory.resolve("hudson/Messages_de.properties"), "a=\\u00c4\nb=c\n");
+        Files.writeString(directory.resolve("help_de.html"), "<div>Hilfe</div>");
+        Files.createDirectories(directory.resolve("plugins/git"));
+        Files.writeString(directory.resolve("plugins/git/Messages_de.properties"), "a=b\n");
+        Path file = tmp.resolve("translations.lspack");
+        TranslationArchiveBuilder.build(directory, file);
+        return file;
+    }
+
+    private static void corrupt(Path file, byte[] original, int position, int value) throws IOException {
+        byte[] bytes = original.clone();
+        ByteBuffer.wrap(bytes).putInt(position, value);
+        Files.write(file, bytes);
+    }
+
+    /**
+     * Reads everything from the archive, which must either fail to open with an {@link IOException} or be readable.
+     */
+    private static void readAll(Path file) throws IOException {
+        TranslationArchive archive;
+        try {
+            archive = TranslationArchive.open(file);
+        } catch (IOException e) {
+            return;
+        }
+        for (String name : archive.getResourceNames()) {
+            read(archive, name);
+        }
+        for (Map.Entry<String, Set<String>> plugin : archive.getPluginResourceNames().entrySet()) {
+            for (String name : plugin.getValue()) {
+                read(archive, TranslationArchive.pluginResourceName(plugin.getKey(), name));
+            }
+        }
+    }
+
+    private static void read(TranslationArchive archive, String name) throws IOException {
+        URL url = archive.getResource(name);
+        if (url != null) {
+            archive.getTable(url);
+            try (InputStream in = url.openStream()) {
+                in.readAllBytes();
+            }
+        }
+    }
+}
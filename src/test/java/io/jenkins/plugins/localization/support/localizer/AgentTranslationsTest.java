@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.localizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import hudson.ExtensionList;
+import hudson.model.TaskListener;
+import hudson.remoting.VirtualChannel;
+import hudson.slaves.DumbSlave;
+import io.jenkins.plugins.localization.support.LocalizationContributor;
+import io.jenkins.plugins.localization.support.Messages;
+import io.jenkins.plugins.localization.support.SyntheticContributor;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Set;
+import jenkins.security.MasterToSlaveCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class AgentTranslationsTest {
+    private static final String TRANSLATION = "Shipped to the agent";
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void shipsTranslationsToAgents(JenkinsRule j) throws Exception {
+        Locale locale = Locale.getDefault();
+        assumeFalse(locale.getLanguage().isEmpty(), "The default locale has no language");
+        String resource = "io/jenkins/plugins/localization/support/Messages_" + locale.getLanguage() + ".properties";
+        SyntheticContributor contributor = new SyntheticContributor("agent", tmp, Set.of(resource))
+                .write(resource, "LocalizationManagementLink.DisplayName = " + TRANSLATION + "\n");
+        ExtensionList<LocalizationContributor> contributors = ExtensionList.lookup(LocalizationContributor.class);
+        contributors.add(contributor);
+
+        DumbSlave agent = j.createOnlineSlave();
+        VirtualChannel channel = agent.getChannel();
+        // translations are shipped for the default locale of the agent, which is expected to match the controller's
+        assumeTrue(locale.equals(channel.call(new GetLocale())), "The agent has a different default locale");
+
+        // translations are shipped by a listener that may run after the agent is reported online
+        String displayName = channel.call(new GetDisplayName());
+        for (int i = 0; i < 100 && !TRANSLATION.equals(displayName); i++) {
+            Thread.sleep(100);
+            displayName = channel.call(new GetDisplayName());
+        }
+        assertEquals(TRANSLATION, displayName);
+
+        // as when the agent reconnects after the contributor was removed
+        contributors.remove(contributor);
+        ExtensionList.lookupSingleton(AgentTranslations.class).onOnline(agent.toComputer(), TaskListener.NULL);
+        assertEquals("Localization", channel.call(new GetDisplayName()));
+    }
+
+    @Test
+    void keepsDefaultMessagesWithoutContributions(JenkinsRule j) throws Exception {
+        DumbSlave agent = j.createOnlineSlave();
+        assertEquals("Localization", agent.getChannel().call(new GetDisplayName()));
+    }
+
+    private static final class GetLocale extends MasterToSlaveCallable<Locale, RuntimeException> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Locale call() {
+            return Locale.getDefault();
+        }
+    }
+
+    private static final class GetDisplayName extends MasterToSlaveCallable<String, RuntimeException> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String call() {
+            return Messages.LocalizationManagementLink_DisplayName();
+        }
+    }
+}
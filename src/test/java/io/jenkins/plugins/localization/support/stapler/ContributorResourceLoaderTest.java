@@ -0,0 +1,147 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.stapler;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.sun.management.UnixOperatingSystemMXBean;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContributorResourceLoaderTest {
+    private static final int JARS = 10;
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void findsResourcesOfCurrentJarsOnly() throws IOException {
+        URL first = jar(0);
+        URL second = jar(1);
+        ContributorResourceLoader loader = new ContributorResourceLoader();
+        loader.update(List.of(first, second));
+        assertNotNull(loader.getResource("resource0.txt"));
+        assertNotNull(loader.getResource("resource1.txt"));
+        assertNull(loader.getResource("missing.txt"));
+
+        loader.update(List.of(second));
+        assertNull(loader.getResource("resource0.txt"));
+        assertNotNull(loader.getResource("resource1.txt"));
+
+        loader.update(List.of(first));
+        assertNotNull(loader.getResource("resource0.txt"));
+        assertNull(loader.getResource("resource1.txt"));
+        loader.update(List.of());
+    }
+
+    @Test
+    void releasesFileDescriptorsAcrossContributorChurn() throws IOException {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        assumeTrue(os instanceof UnixOperatingSystemMXBean, "Open file descriptors cannot be counted");
+        List<URL> jars = jars();
+        ContributorResourceLoader loader = new ContributorResourceLoader();
+        churn(loader, jars, 0, 10);
+        loader.update(List.of());
+        long descriptors = ((UnixOperatingSystemMXBean) os).getOpenFileDescriptorCount();
+
+        churn(loader, jars, 10, 1000);
+        loader.update(List.of());
+        long leaked = ((UnixOperatingSystemMXBean) os).getOpenFileDescriptorCount() - descriptors;
+        // allow for unrelated activity of the JVM
+        assertTrue(leaked < JARS, leaked + " file descriptors leaked");
+    }
+
+    @Test
+    void doesNotRetainMissingResources() throws IOException {
+        List<URL> jars = jars();
+        ContributorResourceLoader loader = new ContributorResourceLoader();
+        loader.update(jars);
+        churn(loader, jars, 0, 10);
+        long memory = usedMemory();
+
+        // names of missing resources come from requests, and could otherwise fill the heap between changes
+        for (int i = 0; i < 200_000; i++) {
+            assertNull(loader.getResource("missing" + i + ".txt"));
+        }
+        long retained = usedMemory() - memory;
+        assertTrue(retained < 8L * 1024 * 1024, retained + " bytes retained");
+        loader.update(List.of());
+    }
+
+    /**
+     * Changes the jars to look up resources in and looks up resources after each change.
+     */
+    private static void churn(ContributorResourceLoader loader, List<URL> jars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            List<URL> current = jars.subList(i % JARS, JARS);
+            loader.update(current);
+            for (int j = 0; j < JARS; j++) {
+                URL url = loader.getResource("resource" + j + ".txt");
+                assertTrue((url != null) == (j >= i % JARS), "resource" + j + ".txt after update " + i);
+            }
+        }
+    }
+
+    private List<URL> jars() throws IOException {
+        List<URL> jars = new ArrayList<>();
+        for (int i = 0; i < JARS; i++) {
+            jars.add(jar(i));
+        }
+        return jars;
+    }
+
+    private URL jar(int index) throws IOException {
+        Path jar = tmp.resolve("contributor" + index + ".jar");
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out)) {
+            jarOut.putNextEntry(new JarEntry("resource" + index + ".txt"));
+            jarOut.write(("Resource " + index).getBytes(StandardCharsets.UTF_8));
+            jarOut.closeEntry();
+        }
+        return jar.toUri().toURL();
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.stapler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PluginLocaleDrivenResourceProviderImplTest {
+
+    @Test
+    void removesLocaleSuffixes() {
+        assertEquals(
+                List.of("dir/help_de_AT_POSIX.html", "dir/help_de_AT.html", "dir/help_de.html", "dir/help.html"),
+                PluginLocaleDrivenResourceProviderImpl.getVariants("dir/help_de_AT_POSIX.html"));
+        assertEquals(
+                List.of("help_de_AT.html", "help_de.html", "help.html"),
+                PluginLocaleDrivenResourceProviderImpl.getVariants("help_de_AT.html"));
+        assertEquals(
+                List.of("help_es_419.html", "help_es.html", "help.html"),
+                PluginLocaleDrivenResourceProviderImpl.getVariants("help_es_419.html"));
+        assertEquals(
+                List.of("help-my_field_de.html", "help-my_field.html"),
+                PluginLocaleDrivenResourceProviderImpl.getVariants("help-my_field_de.html"));
+        assertEquals(List.of("README_de", "README"), PluginLocaleDrivenResourceProviderImpl.getVariants("README_de"));
+    }
+
+    @Test
+    void keepsOtherSuffixes() {
+        assertEquals(
+                List.of("help-my_field.html"),
+                PluginLocaleDrivenResourceProviderImpl.getVariants("help-my_field.html"));
+        assertEquals(
+                List.of("help-my_field_name.html"),
+                PluginLocaleDrivenResourceProviderImpl.getVariants("help-my_field_name.html"));
+        assertEquals(
+                List.of("help-my_field_AT.html"),
+                PluginLocaleDrivenResourceProviderImpl.getVariants("help-my_field_AT.html"));
+        assertEquals(
+                List.of("dir_de/help.html"), PluginLocaleDrivenResourceProviderImpl.getVariants("dir_de/help.html"));
+        assertEquals(List.of("_de.html"), PluginLocaleDrivenResourceProviderImpl.getVariants("_de.html"));
+    }
+}
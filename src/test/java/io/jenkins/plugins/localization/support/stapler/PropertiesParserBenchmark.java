@@ -0,0 +1,81 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.stapler;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares time and allocations of {@link PropertiesParser} with the {@link PropertyResourceBundle} it replaced, both
+ * starting from the bytes of the file.
+ */
+@JmhBenchmark
+public class PropertiesParserBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"10", "1000"})
+        public int keys;
+
+        byte[] bytes;
+
+        @Setup
+        public void setup() {
+            StringBuilder builder = new StringBuilder("# translations\n");
+            for (int i = 0; i < keys; i++) {
+                builder.append("Some.Key").append(i).append(" = Translated value number ").append(i);
+                builder.append(i % 10 == 0 ? " with continuation \\\n    and an \\u00e9scape\n" : "\n");
+            }
+            bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> parser(Input input) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        PropertiesParser.parse(input.bytes, values);
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Benchmark
+    public Map<String, String> propertyResourceBundle(Input input) throws IOException {
+        PropertyResourceBundle bundle = new PropertyResourceBundle(new ByteArrayInputStream(input.bytes));
+        Map<String, String> values = new HashMap<>();
+        for (String key : bundle.keySet()) {
+            values.put(key, bundle.getString(key));
+        }
+        return Map.copyOf(values);
+    }
+}
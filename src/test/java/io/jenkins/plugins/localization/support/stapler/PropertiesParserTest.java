@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins project contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.jenkins.plugins.localization.support.stapler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PropertiesParserTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void matchesProperties() throws IOException {
+        String[] texts = {
+            "",
+            "a=b",
+            "a = b\nc:d\ne f\ng",
+            "  # comment\n! comment\na=b",
+            "a=b\\\n   c\\\r\n d",
+            "k\\ ey = v\\u00e9\\t",
+            "a\\\n#b\nc",
+            "\\\n#b\nc",
+            // continuation followed by a blank line is an empty logical line, which is skipped
+            "\\\n\na",
+            // continuation at the end of the file is an empty logical line, which defines the empty key
+            "0\n\\\n",
+            "\\",
+            "\\\r\n\r\nx",
+            "a=\\\n",
+            "a\\\\\nb",
+            "=\n:\n \t\f"
+        };
+        for (String text : texts) {
+            assertEquals(loadWithProperties(text), parse(text), text);
+        }
+    }
+
+    @Test
+    void matchesPropertiesOnRandomInput() throws IOException {
+        String alphabet = "ab0 \t\f\\\n\r=:#!";
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int j = random.nextInt(12); j > 0; j--) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertEquals(loadWithProperties(text.toString()), parse(text.toString()), text.toString());
+        }
+    }
+
+    @Test
+    void rejectsMalformedUnicodeEscape() {
+        assertThrows(IOException.class, () -> parse("a=\\u12"));
+        assertThrows(IOException.class, () -> parse("a=\\u12x4"));
+    }
+
+    @Test
+    void decodesUtf8AndFallsBackToIso88591() throws IOException {
+        Path utf8 = tmp.resolve("utf8.properties");
+        Files.write(utf8, "a=\u00e9\u4e2d".getBytes(StandardCharsets.UTF_8));
+        assertEquals(Map.of("a", "\u00e9\u4e2d"), load(utf8.toUri().toURL()));
+
+        Path latin1 = tmp.resolve("latin1.properties");
+        Files.write(latin1, "a=\u00e9".getBytes(StandardCharsets.ISO_8859_1));
+        assertEquals(Map.of("a", "\u00e9"), load(latin1.toUri().toURL()));
+    }
+
+    private static Map<String, String> parse(String text) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        PropertiesParser.parse(CharBuffer.wrap(text), values);
+        return values;
+    }
+
+    private static Map<String, String> load(URL url) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        PropertiesParser.load(url, values);
+        return values;
+    }
+
+    private static Map<String, String> loadWithProperties(String text) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(text));
+        Map<String, String> values = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+        return values;
+    }
+}